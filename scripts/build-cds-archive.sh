@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+# Records an AppCDS archive from a training run: starts the jar with -XX:ArchiveClassesAtExit, drives
+# scripts/training-traffic.sh and stops the JVM, which writes the archive on exit. Start with
+#   java -XX:SharedArchiveFile=build/cds/user-management.jsa -jar <jar>
+# The archive is only valid for the exact JDK build and jar it was recorded with.
+#
+# Build first: ./gradlew optimizedJitJarAll (or shadowJar)
+# Usage: scripts/build-cds-archive.sh [iterations]
+set -euo pipefail
+
+JAR=${JAR:-$(ls build/libs/*-all-optimized.jar build/libs/*-all.jar 2>/dev/null | head -1)}
+OUT=build/cds
+ARCHIVE=$OUT/user-management.jsa
+mkdir -p "$OUT"
+rm -f "$ARCHIVE"
+
+# Email, push and Gemini are not exercised, and the warm-up would only add connection classes
+INTEGRATIONS_WARM_UP=false java -XX:ArchiveClassesAtExit="$ARCHIVE" -jar "$JAR" > "$OUT/training.log" 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null || true' EXIT
+
+scripts/training-traffic.sh "${1:-200}"
+
+kill -TERM $pid
+wait $pid || true
+trap - EXIT
+[ -s "$ARCHIVE" ] || { echo "No archive written, see $OUT/training.log" >&2; exit 1; }
+echo "Wrote $ARCHIVE ($(du -h "$ARCHIVE" | cut -f1))"
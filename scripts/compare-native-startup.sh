@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Starts the JVM jar and the native executable in turn and records time until /health
+# answers and resident memory (RSS) at that point and after a short load.
+#
+# Build both first: ./gradlew shadowJar nativeCompile
+# Postgres and DynamoDB must be reachable with the usual environment variables.
+#
+# Usage: scripts/compare-native-startup.sh [runs]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-8080}
+JAR=${JAR:-$(ls build/libs/*-all.jar | head -1)}
+NATIVE=${NATIVE:-build/native/nativeCompile/user-management}
+OUT=build/native-comparison
+mkdir -p "$OUT"
+
+rss_mb() {
+  echo $(( $(ps -o rss= -p "$1") / 1024 ))
+}
+
+measure() {
+  local mode=$1; shift
+  for run in $(seq 1 "$RUNS"); do
+    local start pid ready_ms
+    start=$(date +%s%N)
+    "$@" > "$OUT/$mode-$run.log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "http://localhost:$PORT/health"; do
+      kill -0 $pid 2>/dev/null || { echo "$mode exited, see $OUT/$mode-$run.log" >&2; exit 1; }
+      sleep 0.01
+    done
+    ready_ms=$(( ($(date +%s%N) - start) / 1000000 ))
+    local rss_ready
+    rss_ready=$(rss_mb $pid)
+
+    local rss_loaded=n/a
+    if command -v hey >/dev/null; then
+      hey -z 10s -c 20 "http://localhost:$PORT/health" > /dev/null
+      rss_loaded=$(rss_mb $pid)
+    fi
+    kill $pid && wait $pid 2>/dev/null || true
+    printf "%-7s run %d: ready in %5d ms, RSS %4s MB at ready, %4s MB after load\n" \
+      "$mode" "$run" "$ready_ms" "$rss_ready" "$rss_loaded" | tee -a "$OUT/summary.txt"
+  done
+}
+
+: > "$OUT/summary.txt"
+measure jvm java -jar "$JAR"
+measure native "$NATIVE"
+echo "Summary written to $OUT/summary.txt"
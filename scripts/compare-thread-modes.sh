@@ -0,0 +1,44 @@
+#!/usr/bin/env bash
+# Runs the same load against the service with virtual threads and with the
+# platform-threads environment, and keeps both hey reports side by side.
+#
+# Usage: TOKEN=<jwt> scripts/compare-thread-modes.sh [path] [concurrency...]
+set -euo pipefail
+
+PATH_UNDER_TEST=${1:-/api/users}
+shift || true
+CONCURRENCY=${*:-50 200 1000}
+DURATION=${DURATION:-30s}
+PORT=${PORT:-8080}
+JAR=${JAR:-$(ls build/libs/*-all.jar | head -1)}
+OUT=build/thread-mode-comparison
+
+: "${TOKEN:?TOKEN must hold a bearer token}"
+command -v hey >/dev/null || { echo "hey is required: go install github.com/rakyll/hey@latest" >&2; exit 1; }
+mkdir -p "$OUT"
+
+run_mode() {
+  local mode=$1 env=$2
+  MICRONAUT_ENVIRONMENTS=$env java -jar "$JAR" > "$OUT/$mode-server.log" 2>&1 &
+  local pid=$!
+  trap "kill $pid 2>/dev/null || true" RETURN
+
+  until curl -s -o /dev/null "http://localhost:$PORT/health"; do
+    kill -0 $pid 2>/dev/null || { echo "$mode server exited, see $OUT/$mode-server.log" >&2; return 1; }
+    sleep 1
+  done
+
+  # Warm up JIT and connection pools before measuring
+  hey -z 10s -c 20 -H "Authorization: Bearer $TOKEN" "http://localhost:$PORT$PATH_UNDER_TEST" > /dev/null
+
+  for c in $CONCURRENCY; do
+    echo "== $mode c=$c"
+    hey -z "$DURATION" -c "$c" -H "Authorization: Bearer $TOKEN" \
+      "http://localhost:$PORT$PATH_UNDER_TEST" | tee "$OUT/$mode-c$c.txt" | grep -E "Requests/sec|99%|Status code" -A3
+  done
+}
+
+run_mode virtual ""
+run_mode platform platform-threads
+
+echo "Reports written to $OUT"
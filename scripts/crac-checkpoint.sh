@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# Takes a CRaC checkpoint after a training run, then restores it with "restore". Needs a CRaC JDK
+# (e.g. Azul Zulu or BellSoft Liberica with CRaC) and, in containers, CAP_CHECKPOINT_RESTORE.
+#
+# Build first: ./gradlew optimizedJitJarAll (or shadowJar)
+# Usage: scripts/crac-checkpoint.sh checkpoint [iterations]
+#        scripts/crac-checkpoint.sh restore
+set -euo pipefail
+
+JAR=${JAR:-$(ls build/libs/*-all-optimized.jar build/libs/*-all.jar 2>/dev/null | head -1)}
+DIR=${CRAC_DIR:-build/crac}
+
+case "${1:-}" in
+  checkpoint)
+    rm -rf "$DIR" && mkdir -p "$DIR"
+    INTEGRATIONS_WARM_UP=false java -XX:CRaCCheckpointTo="$DIR" -jar "$JAR" > "$DIR/../crac-training.log" 2>&1 &
+    pid=$!
+    scripts/training-traffic.sh "${2:-200}"
+    # The JVM exits once the image is written
+    jcmd $pid JDK.checkpoint
+    wait $pid || true
+    [ -n "$(ls -A "$DIR")" ] || { echo "Checkpoint failed, see $DIR/../crac-training.log" >&2; exit 1; }
+    echo "Checkpoint written to $DIR"
+    ;;
+  restore)
+    exec java -XX:CRaCRestoreFrom="$DIR"
+    ;;
+  *)
+    echo "Usage: $0 checkpoint [iterations] | restore" >&2
+    exit 1
+    ;;
+esac
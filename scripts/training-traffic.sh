@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Sends representative requests to a running instance so the CDS archive and CRaC checkpoint include the
+# classes (and, for CRaC, the JIT state) of the hot paths. Avoids endpoints that send email, push or call
+# Gemini: their outbound connections would stay open and block the checkpoint.
+#
+# Usage: scripts/training-traffic.sh [iterations]
+# TRAINING_EMAIL and TRAINING_PASSWORD must name an existing admin account.
+set -euo pipefail
+
+ITERATIONS=${1:-200}
+BASE=${BASE:-http://localhost:${PORT:-8080}}
+: "${TRAINING_EMAIL:?set TRAINING_EMAIL}"
+: "${TRAINING_PASSWORD:?set TRAINING_PASSWORD}"
+
+until curl -sf -o /dev/null "$BASE/health"; do sleep 0.1; done
+
+login() {
+  curl -sf -H 'Content-Type: application/json' \
+    -d "{\"email\":\"$TRAINING_EMAIL\",\"password\":\"$TRAINING_PASSWORD\"}" \
+    "$BASE/api/auth/login" | sed -n 's/.*"accessToken" *: *"\([^"]*\)".*/\1/p'
+}
+
+TOKEN=$(login)
+[ -n "$TOKEN" ] || { echo "Login failed for $TRAINING_EMAIL" >&2; exit 1; }
+
+for _ in $(seq 1 "$ITERATIONS"); do
+  login > /dev/null
+  curl -sf -o /dev/null -H "Authorization: Bearer $TOKEN" "$BASE/api/users"
+  curl -sf -o /dev/null -H "Authorization: Bearer $TOKEN" "$BASE/api/users/email/$TRAINING_EMAIL"
+  curl -sf -o /dev/null -H "Authorization: Bearer $TOKEN" "$BASE/api/notifications"
+  curl -sf -o /dev/null -H "Authorization: Bearer $TOKEN" "$BASE/api/users/password-change-requests/pending"
+  curl -sf -o /dev/null "$BASE/health/readiness" || true
+done
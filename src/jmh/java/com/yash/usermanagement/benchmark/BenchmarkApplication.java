@@ -0,0 +1,70 @@
+package com.yash.usermanagement.benchmark;
+
+import com.yash.usermanagement.model.Address;
+import com.yash.usermanagement.model.AddressType;
+import com.yash.usermanagement.model.Gender;
+import com.yash.usermanagement.model.User;
+import com.yash.usermanagement.model.UserRole;
+import io.micronaut.context.ApplicationContext;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Starts the application context in the {@value #ENVIRONMENT} environment: Postgres repositories are
+ * replaced by in-memory stubs and nothing connects to Postgres or DynamoDB (see application-benchmark.yml).
+ * Benchmarks of the JDBC layer itself use {@link #startWithPostgres} instead.
+ */
+public final class BenchmarkApplication {
+
+    public static final String ENVIRONMENT = "benchmark";
+    public static final String JDBC_ENVIRONMENT = "benchmark-jdbc";
+
+    private BenchmarkApplication() {
+    }
+
+    public static ApplicationContext start() {
+        return ApplicationContext.builder()
+                .environments(ENVIRONMENT)
+                .deduceEnvironment(false)
+                .start();
+    }
+
+    /**
+     * Starts the context with the real repositories against the given Postgres; Flyway creates the schema
+     * (see application-benchmark-jdbc.yml).
+     */
+    public static ApplicationContext startWithPostgres(Map<String, Object> properties) {
+        return ApplicationContext.builder()
+                .environments(JDBC_ENVIRONMENT)
+                .deduceEnvironment(false)
+                .properties(properties)
+                .start();
+    }
+
+    public static User user(int index) {
+        Address address = new Address();
+        address.setId(UUID.randomUUID());
+        address.setStreetAddress(index + " Benchmark Street");
+        address.setCity("Indore");
+        address.setState("Madhya Pradesh");
+        address.setPostalCode("452001");
+        address.setCountry("India");
+        address.setAddressType(AddressType.HOME);
+        address.setDefaultAddress(true);
+
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setFirstName("Bench");
+        user.setLastName("Mark");
+        user.setEmail("user" + index + "@example.com");
+        user.setPassword("Passw0rd@" + index);
+        user.setGender(Gender.OTHER);
+        user.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        user.setPhoneNumber("+9198765" + String.format("%05d", index));
+        user.setRole(UserRole.USER);
+        user.setAddress(address);
+        return user;
+    }
+}
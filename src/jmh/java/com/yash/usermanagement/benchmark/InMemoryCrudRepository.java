@@ -0,0 +1,87 @@
+package com.yash.usermanagement.benchmark;
+
+import io.micronaut.data.repository.CrudRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
+/**
+ * Map-backed {@link CrudRepository} so benchmarks measure the service code, not Postgres.
+ */
+public abstract class InMemoryCrudRepository<E, ID> implements CrudRepository<E, ID> {
+
+    protected final Map<ID, E> entities = new ConcurrentHashMap<>();
+    private final Function<E, ID> idOf;
+
+    protected InMemoryCrudRepository(Function<E, ID> idOf) {
+        this.idOf = idOf;
+    }
+
+    @Override
+    public <S extends E> S save(S entity) {
+        entities.put(idOf.apply(entity), entity);
+        return entity;
+    }
+
+    @Override
+    public <S extends E> S update(S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public <S extends E> List<S> updateAll(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    @Override
+    public <S extends E> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public Optional<E> findById(ID id) {
+        return Optional.ofNullable(entities.get(id));
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return entities.containsKey(id);
+    }
+
+    @Override
+    public List<E> findAll() {
+        return new ArrayList<>(entities.values());
+    }
+
+    @Override
+    public long count() {
+        return entities.size();
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        entities.remove(id);
+    }
+
+    @Override
+    public void delete(E entity) {
+        entities.remove(idOf.apply(entity));
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends E> entities) {
+        StreamSupport.stream(entities.spliterator(), false).forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        entities.clear();
+    }
+}
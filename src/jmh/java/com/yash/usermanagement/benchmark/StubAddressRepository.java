@@ -0,0 +1,19 @@
+package com.yash.usermanagement.benchmark;
+
+import com.yash.usermanagement.model.Address;
+import com.yash.usermanagement.repository.AddressRepository;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+import java.util.UUID;
+
+@Singleton
+@Replaces(AddressRepository.class)
+@Requires(env = BenchmarkApplication.ENVIRONMENT)
+public class StubAddressRepository extends InMemoryCrudRepository<Address, UUID> implements AddressRepository {
+
+    public StubAddressRepository() {
+        super(Address::getId);
+    }
+}
@@ -0,0 +1,38 @@
+package com.yash.usermanagement.benchmark;
+
+import com.yash.usermanagement.model.PasswordChangeRequest;
+import com.yash.usermanagement.model.PasswordChangeStatus;
+import com.yash.usermanagement.repository.PasswordChangeRequestRepository;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Singleton
+@Replaces(PasswordChangeRequestRepository.class)
+@Requires(env = BenchmarkApplication.ENVIRONMENT)
+public class StubPasswordChangeRequestRepository extends InMemoryCrudRepository<PasswordChangeRequest, UUID>
+        implements PasswordChangeRequestRepository {
+
+    public StubPasswordChangeRequestRepository() {
+        super(PasswordChangeRequest::getId);
+    }
+
+    @Override
+    public List<PasswordChangeRequest> findByUserId(UUID userId) {
+        return entities.values().stream().filter(request -> userId.equals(request.getUserId())).toList();
+    }
+
+    @Override
+    public List<PasswordChangeRequest> findByStatus(PasswordChangeStatus status) {
+        return entities.values().stream().filter(request -> status == request.getStatus()).toList();
+    }
+
+    @Override
+    public Optional<PasswordChangeRequest> findByUserIdAndStatus(UUID userId, PasswordChangeStatus status) {
+        return findByUserId(userId).stream().filter(request -> status == request.getStatus()).findFirst();
+    }
+}
@@ -0,0 +1,25 @@
+package com.yash.usermanagement.benchmark;
+
+import com.yash.usermanagement.model.UserDevice;
+import com.yash.usermanagement.repository.UserDeviceRepository;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.UUID;
+
+@Singleton
+@Replaces(UserDeviceRepository.class)
+@Requires(env = BenchmarkApplication.ENVIRONMENT)
+public class StubUserDeviceRepository extends InMemoryCrudRepository<UserDevice, UUID> implements UserDeviceRepository {
+
+    public StubUserDeviceRepository() {
+        super(UserDevice::getId);
+    }
+
+    @Override
+    public List<UserDevice> findByUserId(UUID userId) {
+        return entities.values().stream().filter(device -> userId.equals(device.getUserId())).toList();
+    }
+}
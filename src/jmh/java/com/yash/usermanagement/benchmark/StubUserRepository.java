@@ -0,0 +1,105 @@
+package com.yash.usermanagement.benchmark;
+
+import com.yash.usermanagement.dto.UserCredentials;
+import com.yash.usermanagement.dto.UserRecipient;
+import com.yash.usermanagement.dto.UserView;
+import com.yash.usermanagement.model.Address;
+import com.yash.usermanagement.model.User;
+import com.yash.usermanagement.repository.UserRepository;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Singleton
+@Replaces(UserRepository.class)
+@Requires(env = BenchmarkApplication.ENVIRONMENT)
+public class StubUserRepository extends InMemoryCrudRepository<User, UUID> implements UserRepository {
+
+    public StubUserRepository() {
+        super(User::getId);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return entities.values().stream().filter(user -> email.equals(user.getEmail())).findFirst();
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return findByEmail(email).isPresent();
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        return super.findById(id);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return super.findAll();
+    }
+
+    @Override
+    public List<UserView> findAllViews() {
+        return entities.values().stream().map(StubUserRepository::view).toList();
+    }
+
+    @Override
+    public Optional<UserView> findViewById(UUID id) {
+        return findById(id).map(StubUserRepository::view);
+    }
+
+    @Override
+    public Optional<UserView> findViewByEmail(String email) {
+        return findByEmail(email).map(StubUserRepository::view);
+    }
+
+    @Override
+    public Optional<UserCredentials> findCredentialsByEmail(String email) {
+        return findByEmail(email).map(user -> new UserCredentials(user.getId(), user.getEmail(), user.getPassword(),
+                user.getRole(), user.getFirstName(), user.getLastName()));
+    }
+
+    @Override
+    public Optional<UserRecipient> findRecipientById(UUID id) {
+        return findById(id).map(StubUserRepository::recipient);
+    }
+
+    @Override
+    public List<UserRecipient> findRecipientsByIdIn(Collection<UUID> ids) {
+        return ids.stream().map(entities::get).filter(user -> user != null).map(StubUserRepository::recipient)
+                .toList();
+    }
+
+    @Override
+    public List<UserRecipient> findRecipientsByRole(String role) {
+        return entities.values().stream().filter(user -> user.getRole().name().equals(role))
+                .map(StubUserRepository::recipient).toList();
+    }
+
+    @Override
+    public List<UserRecipient> findAllRecipients() {
+        return entities.values().stream().map(StubUserRepository::recipient).toList();
+    }
+
+    private static UserRecipient recipient(User user) {
+        return new UserRecipient(user.getId(), user.getEmail(), user.getFirstName(), user.getLastName(),
+                user.getRole());
+    }
+
+    private static UserView view(User user) {
+        Address address = user.getAddress();
+        return new UserView(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(),
+                user.getDateOfBirth(), user.getPhoneNumber(), user.getGender(), user.getRole(),
+                address == null ? null : address.getId(), address == null ? null : address.getStreetAddress(),
+                address == null ? null : address.getCity(), address == null ? null : address.getState(),
+                address == null ? null : address.getPostalCode(), address == null ? null : address.getCountry(),
+                address == null ? null : address.getAddressType(),
+                address == null ? null : address.isDefaultAddress());
+    }
+}
@@ -0,0 +1,59 @@
+package com.yash.usermanagement.config;
+
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.convert.TypeConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * String to UUID conversion used for every {@code {id}} path variable, including the rejected-input path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TypeConverterBenchmark {
+
+    private TypeConverter<String, UUID> stringToUuid;
+    private TypeConverter<UUID, String> uuidToString;
+    private String valid;
+    private UUID uuid;
+
+    @Setup
+    public void setUp() {
+        TypeConverterConfig config = new TypeConverterConfig();
+        stringToUuid = config.stringToUUIDConverter();
+        uuidToString = config.uuidToStringConverter();
+        uuid = UUID.randomUUID();
+        valid = uuid.toString();
+    }
+
+    @Benchmark
+    public Optional<UUID> parseValid() {
+        return stringToUuid.convert(valid, UUID.class, ConversionContext.DEFAULT);
+    }
+
+    @Benchmark
+    public Optional<UUID> parseInvalid() {
+        return stringToUuid.convert("not-a-uuid", UUID.class, ConversionContext.DEFAULT);
+    }
+
+    @Benchmark
+    public Optional<String> format() {
+        return uuidToString.convert(uuid, String.class, ConversionContext.DEFAULT);
+    }
+
+    @Benchmark
+    public Optional<UUID> sharedConversionService() {
+        return ConversionService.SHARED.convert(valid, UUID.class);
+    }
+}
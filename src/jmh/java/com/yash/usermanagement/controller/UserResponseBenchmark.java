@@ -0,0 +1,60 @@
+package com.yash.usermanagement.controller;
+
+import com.yash.usermanagement.benchmark.BenchmarkApplication;
+import com.yash.usermanagement.dto.UserResponse;
+import com.yash.usermanagement.model.User;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * GET /api/users: mapping entities to {@link UserResponse} and serializing the list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserResponseBenchmark {
+
+    private static final Argument<List<UserResponse>> RESPONSE_LIST = Argument.listOf(UserResponse.class);
+
+    @Param({"1", "100"})
+    int users;
+
+    private List<User> source;
+    private List<UserResponse> responses;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        source = IntStream.range(0, users).mapToObj(BenchmarkApplication::user).toList();
+        responses = convert();
+        objectMapper = ObjectMapper.getDefault();
+    }
+
+    @Benchmark
+    public List<UserResponse> convert() {
+        return source.stream().map(UserController::convertToUserResponse).toList();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(RESPONSE_LIST, responses);
+    }
+
+    @Benchmark
+    public byte[] convertAndSerialize() throws IOException {
+        return objectMapper.writeValueAsBytes(RESPONSE_LIST, convert());
+    }
+}
@@ -0,0 +1,62 @@
+package com.yash.usermanagement.model;
+
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Notification JSON as served by the inbox endpoints and sent over the notification bus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotificationSerdeBenchmark {
+
+    private static final Argument<List<Notification>> NOTIFICATION_LIST = Argument.listOf(Notification.class);
+
+    @Param({"1", "50"})
+    int notifications;
+
+    private ObjectMapper objectMapper;
+    private List<Notification> inbox;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = ObjectMapper.getDefault();
+        UUID userId = UUID.randomUUID();
+        inbox = IntStream.range(0, notifications).mapToObj(i -> {
+            Notification notification = new Notification();
+            notification.setUserId(userId);
+            notification.setTitle("Notification " + i);
+            notification.setMessage("Your weekly account summary is ready. ".repeat(5));
+            notification.setPriority(NotificationPriority.values()[i % NotificationPriority.values().length]);
+            notification.setExpiresAt(1_900_000_000L);
+            return notification;
+        }).toList();
+        json = objectMapper.writeValueAsBytes(NOTIFICATION_LIST, inbox);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(NOTIFICATION_LIST, inbox);
+    }
+
+    @Benchmark
+    public List<Notification> deserialize() throws IOException {
+        return objectMapper.readValue(json, NOTIFICATION_LIST);
+    }
+}
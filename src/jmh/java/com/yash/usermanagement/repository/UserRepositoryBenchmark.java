@@ -0,0 +1,112 @@
+package com.yash.usermanagement.repository;
+
+import com.yash.usermanagement.benchmark.BenchmarkApplication;
+import com.yash.usermanagement.dto.UserCredentials;
+import com.yash.usermanagement.dto.UserView;
+import com.yash.usermanagement.model.User;
+import io.micronaut.context.ApplicationContext;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Login and CRUD through the real repositories against embedded Postgres, per pgjdbc statement setting.
+ * {@code prepareThreshold=0} never prepares server-side, {@code 5} is the driver default and {@code 1} is
+ * the application default; {@code preparedStatementCacheQueries=0} turns the per-connection cache off, so
+ * every call parses and plans again whatever the threshold.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserRepositoryBenchmark {
+
+    private static final int USERS = 1000;
+
+    @Param({"0", "5", "1"})
+    String prepareThreshold;
+
+    @Param({"0", "256"})
+    String preparedStatementCacheQueries;
+
+    private EmbeddedPostgres postgres;
+    private ApplicationContext context;
+    private UserRepository userRepository;
+    private AddressRepository addressRepository;
+    private List<User> users;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        context = BenchmarkApplication.startWithPostgres(Map.of(
+                "datasources.default.url", postgres.getJdbcUrl("postgres", "postgres"),
+                "datasources.default.username", "postgres",
+                "datasources.default.password", "postgres",
+                "datasources.default.data-source-properties.prepareThreshold", prepareThreshold,
+                "datasources.default.data-source-properties.preparedStatementCacheQueries",
+                preparedStatementCacheQueries));
+        userRepository = context.getBean(UserRepository.class);
+        addressRepository = context.getBean(AddressRepository.class);
+
+        users = IntStream.range(0, USERS).mapToObj(BenchmarkApplication::user).toList();
+        addressRepository.saveAll(users.stream().map(User::getAddress).toList());
+        userRepository.saveAll(users);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public Optional<UserCredentials> login() {
+        return userRepository.findCredentialsByEmail(nextUser().getEmail());
+    }
+
+    @Benchmark
+    public Optional<UserView> findView() {
+        return userRepository.findViewById(nextUser().getId());
+    }
+
+    @Benchmark
+    public boolean existsByEmail() {
+        return userRepository.existsByEmail(nextUser().getEmail());
+    }
+
+    /**
+     * Create, read, update and delete of a user with an address, in the order the user endpoints issue them.
+     */
+    @Benchmark
+    public Optional<UserView> crud() {
+        User user = BenchmarkApplication.user(USERS + next++);
+        addressRepository.save(user.getAddress());
+        userRepository.existsByEmail(user.getEmail());
+        userRepository.save(user);
+        Optional<UserView> view = userRepository.findViewById(user.getId());
+        user.setPhoneNumber("+919999999999");
+        userRepository.update(user);
+        addressRepository.deleteById(user.getAddress().getId());
+        userRepository.deleteById(user.getId());
+        return view;
+    }
+
+    private User nextUser() {
+        return users.get(next++ % USERS);
+    }
+}
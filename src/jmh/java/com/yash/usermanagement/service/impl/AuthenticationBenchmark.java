@@ -0,0 +1,67 @@
+package com.yash.usermanagement.service.impl;
+
+import com.yash.usermanagement.benchmark.BenchmarkApplication;
+import com.yash.usermanagement.dto.LoginRequestDTO;
+import com.yash.usermanagement.dto.LoginResponseDTO;
+import com.yash.usermanagement.model.User;
+import com.yash.usermanagement.repository.UserRepository;
+import com.yash.usermanagement.service.AuthenticationService;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.security.authentication.Authentication;
+import io.micronaut.security.token.validator.TokenValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login (user lookup against a stub repository plus JWT signing) and JWT validation as done per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthenticationBenchmark {
+
+    private ApplicationContext context;
+    private AuthenticationService authenticationService;
+    private TokenValidator<Object> tokenValidator;
+    private LoginRequestDTO loginRequest;
+    private String token;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        User user = BenchmarkApplication.user(1);
+        context.getBean(UserRepository.class).save(user);
+
+        authenticationService = context.getBean(AuthenticationService.class);
+        tokenValidator = context.getBean(TokenValidator.class);
+        loginRequest = new LoginRequestDTO();
+        loginRequest.setEmail(user.getEmail());
+        loginRequest.setPassword(user.getPassword());
+        token = authenticationService.login(loginRequest).getAccessToken();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LoginResponseDTO login() {
+        return authenticationService.login(loginRequest);
+    }
+
+    @Benchmark
+    public Authentication validateToken() {
+        return Mono.from(tokenValidator.validateToken(token, null)).block();
+    }
+}
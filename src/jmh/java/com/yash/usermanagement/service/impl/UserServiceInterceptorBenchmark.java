@@ -0,0 +1,63 @@
+package com.yash.usermanagement.service.impl;
+
+import com.yash.usermanagement.benchmark.BenchmarkApplication;
+import com.yash.usermanagement.model.User;
+import com.yash.usermanagement.repository.AddressRepository;
+import com.yash.usermanagement.repository.PasswordChangeRequestRepository;
+import com.yash.usermanagement.repository.UserDeviceRepository;
+import com.yash.usermanagement.repository.UserRepository;
+import com.yash.usermanagement.service.UserService;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@code @Loggable @Auditable @Timed} chain: the same {@code updateUser} call through the
+ * intercepted bean and on a plain instance sharing the same stub repositories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserServiceInterceptorBenchmark {
+
+    private ApplicationContext context;
+    private UserService intercepted;
+    private UserService plain;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        user = userRepository.save(BenchmarkApplication.user(1));
+
+        intercepted = context.getBean(UserService.class);
+        plain = new UserServiceImpl(userRepository,
+                context.getBean(AddressRepository.class),
+                context.getBean(PasswordChangeRequestRepository.class),
+                context.getBean(UserDeviceRepository.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public User updateIntercepted() {
+        return intercepted.updateUser(user.getId(), user);
+    }
+
+    @Benchmark
+    public User updatePlain() {
+        return plain.updateUser(user.getId(), user);
+    }
+}
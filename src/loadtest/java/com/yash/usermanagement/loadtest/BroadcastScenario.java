@@ -0,0 +1,80 @@
+package com.yash.usermanagement.loadtest;
+
+import com.yash.usermanagement.dto.BroadcastNotificationRequest;
+import com.yash.usermanagement.model.NotificationPriority;
+
+import java.time.Duration;
+
+/**
+ * One broadcast per configured channel to every seeded user. Besides the latency of the broadcast
+ * call itself, it reports how long the stub (SendGrid or FCM) took to receive all deliveries. That is
+ * bounded by the per-channel rate limits in {@code micronaut.notifications.delivery}.
+ */
+public class BroadcastScenario implements Scenario {
+
+    private static final Duration QUIET_PERIOD = Duration.ofSeconds(15);
+
+    @Override
+    public String name() {
+        return "broadcast";
+    }
+
+    @Override
+    public String run(LoadTestRun run) throws InterruptedException {
+        String token = run.adminToken();
+        int recipients = run.users().size() + 1;
+        StringBuilder notes = new StringBuilder();
+        run.recorder().start();
+        for (String channel : run.settings().broadcastChannels()) {
+            StubDependencyServer.Endpoint stub = "push".equals(channel) ? run.stubs().fcm() : run.stubs().sendGrid();
+            long before = stub.succeeded();
+            long failedBefore = stub.failed();
+
+            BroadcastNotificationRequest request = new BroadcastNotificationRequest();
+            request.setTitle("Load test broadcast");
+            request.setMessage("Scheduled maintenance tonight between 01:00 and 02:00.");
+            request.setPriority(NotificationPriority.valueOf(run.settings().broadcastPriority()));
+            request.setChannel(channel);
+            long start = System.nanoTime();
+            LoadClient.Response response = run.client().call("POST /api/notifications/broadcast (" + channel + ")",
+                    "POST", "/api/notifications/broadcast", request, token);
+            if (!response.ok()) {
+                notes.append(String.format("%s broadcast failed with status %d%n", channel, response.status()));
+                continue;
+            }
+
+            Drain drain = awaitDrain(stub, before, recipients, run.settings().drainTimeout());
+            double seconds = (drain.lastDeliveryNanos() - start) / 1e9;
+            notes.append(String.format(
+                    "%s broadcast: %d of %d deliveries reached the stub in %.1f s (%.0f/s), %d stubbed failures%n",
+                    channel, drain.delivered(), recipients, seconds, drain.delivered() / seconds,
+                    stub.failed() - failedBefore));
+        }
+        run.recorder().stop();
+        return notes.toString();
+    }
+
+    /**
+     * Waits until the stub has accepted a call per recipient, nothing new arrived for the quiet period
+     * (digested priorities, coalescing, or calls the retries gave up on), or the timeout passed.
+     */
+    private static Drain awaitDrain(StubDependencyServer.Endpoint stub, long before, int recipients, Duration timeout)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long lastCount = 0;
+        long lastChange = System.nanoTime();
+        while (System.nanoTime() < deadline && lastCount < recipients
+                && System.nanoTime() - lastChange < QUIET_PERIOD.toNanos()) {
+            Thread.sleep(50);
+            long count = stub.succeeded() - before;
+            if (count != lastCount) {
+                lastCount = count;
+                lastChange = System.nanoTime();
+            }
+        }
+        return new Drain(lastCount, lastChange);
+    }
+
+    private record Drain(long delivered, long lastDeliveryNanos) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.yash.usermanagement.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A fixed number of virtual users, each repeating {@link #iteration} back to back (plus the think
+ * time) for the warm-up and then the measured duration. Each virtual user has its own random source
+ * derived from the run seed.
+ */
+public abstract class ClosedLoopScenario<S> implements Scenario {
+
+    /**
+     * Per virtual user setup, e.g. logging in; runs before the warm-up and is not recorded.
+     */
+    protected abstract S prepare(LoadTestRun run, int virtualUser);
+
+    protected abstract void iteration(LoadTestRun run, S state, SplittableRandom random);
+
+    @Override
+    public String run(LoadTestRun run) throws Exception {
+        LoadTestSettings settings = run.settings();
+        List<S> states = new ArrayList<>();
+        for (int i = 0; i < settings.concurrency(); i++) {
+            states.add(prepare(run, i));
+        }
+
+        long warmupEnd = System.nanoTime() + settings.warmup().toNanos();
+        long end = warmupEnd + settings.duration().toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < settings.concurrency(); i++) {
+                S state = states.get(i);
+                SplittableRandom random = new SplittableRandom(settings.seed() + i);
+                workers.add(executor.submit(() -> loop(run, state, random, end)));
+            }
+            sleepUntil(warmupEnd);
+            run.recorder().start();
+            sleepUntil(end);
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            run.recorder().stop();
+        }
+        return "";
+    }
+
+    private void loop(LoadTestRun run, S state, SplittableRandom random, long end) {
+        long thinkMillis = run.settings().thinkTime().toMillis();
+        while (System.nanoTime() < end) {
+            iteration(run, state, random);
+            if (thinkMillis > 0) {
+                try {
+                    Thread.sleep(thinkMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            Thread.sleep(remaining / 1_000_000, (int) (remaining % 1_000_000));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.yash.usermanagement.loadtest;
+
+import com.yash.usermanagement.model.Address;
+import com.yash.usermanagement.model.AddressType;
+import com.yash.usermanagement.model.Gender;
+import com.yash.usermanagement.model.Notification;
+import com.yash.usermanagement.model.NotificationPriority;
+import com.yash.usermanagement.model.User;
+import com.yash.usermanagement.model.UserDevice;
+import com.yash.usermanagement.model.UserRole;
+import com.yash.usermanagement.repository.AddressRepository;
+import com.yash.usermanagement.repository.UserDeviceRepository;
+import com.yash.usermanagement.repository.UserRepository;
+import com.yash.usermanagement.service.NotificationService;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fills the freshly started datastores through the application's own repositories: one admin, the
+ * configured number of users with a device each, and inboxes for the polling scenario. Seeding
+ * bypasses the HTTP API, so no welcome emails reach the stubs before the scenarios start.
+ */
+public class DataSeeder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DataSeeder.class);
+    private static final int BATCH_SIZE = 500;
+
+    public static final String PASSWORD = "Loadtest@123";
+    public static final String ADMIN_EMAIL = "admin@loadtest.local";
+
+    private final UserRepository userRepository;
+    private final AddressRepository addressRepository;
+    private final UserDeviceRepository userDeviceRepository;
+    private final NotificationService notificationService;
+
+    public DataSeeder(ApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.addressRepository = context.getBean(AddressRepository.class);
+        this.userDeviceRepository = context.getBean(UserDeviceRepository.class);
+        this.notificationService = context.getBean(NotificationService.class, Qualifiers.byName("email"));
+    }
+
+    /**
+     * Seeds everything and returns the regular users in creation order.
+     */
+    public List<SeededUser> seed(LoadTestSettings settings) {
+        long start = System.nanoTime();
+        save(List.of(user(ADMIN_EMAIL, UserRole.ADMIN, 0)));
+
+        List<SeededUser> seeded = new ArrayList<>(settings.users());
+        for (int from = 0; from < settings.users(); from += BATCH_SIZE) {
+            List<User> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = from; i < Math.min(from + BATCH_SIZE, settings.users()); i++) {
+                batch.add(user("user" + i + "@loadtest.local", UserRole.USER, i + 1));
+            }
+            for (User user : save(batch)) {
+                seeded.add(new SeededUser(user.getId(), user.getEmail(), PASSWORD));
+            }
+        }
+
+        for (int i = 0; i < settings.inboxUsers(); i++) {
+            for (int n = 0; n < settings.inboxSize(); n++) {
+                Notification notification = new Notification();
+                notification.setUserId(seeded.get(i).id());
+                notification.setTitle("Seeded notification " + n);
+                notification.setMessage("Your account summary for week " + n + " is ready.");
+                notification.setPriority(NotificationPriority.values()[n % NotificationPriority.values().length]);
+                notificationService.createNotification(notification);
+            }
+        }
+        LOG.info("Seeded {} users and {} inboxes of {} notifications in {} ms", seeded.size(),
+                settings.inboxUsers(), settings.inboxSize(), (System.nanoTime() - start) / 1_000_000);
+        return seeded;
+    }
+
+    private List<User> save(List<User> users) {
+        List<Address> addresses = addressRepository.saveAll(users.stream().map(User::getAddress).toList());
+        for (int i = 0; i < users.size(); i++) {
+            users.get(i).setAddress(addresses.get(i));
+        }
+        List<User> saved = userRepository.saveAll(users);
+        userDeviceRepository.saveAll(saved.stream().map(user -> {
+            UserDevice device = new UserDevice();
+            device.setUserId(user.getId());
+            device.setFcmToken("loadtest-token-" + user.getId());
+            device.setCreatedAt(LocalDateTime.now());
+            return device;
+        }).toList());
+        return saved;
+    }
+
+    static User user(String email, UserRole role, int index) {
+        Address address = new Address();
+        address.setStreetAddress(index + " Load Street");
+        address.setCity("Indore");
+        address.setState("Madhya Pradesh");
+        address.setPostalCode("452001");
+        address.setCountry("India");
+        address.setAddressType(AddressType.HOME);
+        address.setDefaultAddress(true);
+
+        User user = new User();
+        user.setFirstName("Load");
+        user.setLastName("Tester");
+        user.setEmail(email);
+        user.setPassword(PASSWORD);
+        user.setGender(Gender.OTHER);
+        user.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        user.setPhoneNumber(String.format("+91%010d", 9_000_000_000L + index));
+        user.setRole(role);
+        user.setAddress(address);
+        return user;
+    }
+
+    public record SeededUser(UUID id, String email, String password) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.yash.usermanagement.loadtest;
+
+import com.yash.usermanagement.loadtest.DataSeeder.SeededUser;
+
+import java.util.SplittableRandom;
+
+/**
+ * Clients polling their inbox as they did before the WebSocket push: each virtual user is signed in
+ * as one of the seeded inbox owners and checks the unread count (70%), lists its notifications (25%)
+ * or marks everything read (5%).
+ */
+public class InboxPollingScenario extends ClosedLoopScenario<InboxPollingScenario.Inbox> {
+
+    @Override
+    public String name() {
+        return "inbox-polling";
+    }
+
+    @Override
+    protected Inbox prepare(LoadTestRun run, int virtualUser) {
+        SeededUser owner = run.users().get(virtualUser % run.settings().inboxUsers());
+        return new Inbox(owner, run.login(owner.email(), owner.password()));
+    }
+
+    @Override
+    protected void iteration(LoadTestRun run, Inbox inbox, SplittableRandom random) {
+        String base = "/api/notifications/user/" + inbox.owner().id();
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            run.client().call("GET /api/notifications/user/{userId}/unread-count", "GET", base + "/unread-count",
+                    null, inbox.token());
+        } else if (roll < 95) {
+            run.client().call("GET /api/notifications/user/{userId}", "GET", base, null, inbox.token());
+        } else {
+            run.client().call("PATCH /api/notifications/user/{userId}/read-all", "PATCH", base + "/read-all",
+                    null, inbox.token());
+        }
+    }
+
+    record Inbox(SeededUser owner, String token) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.yash.usermanagement.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and error counts for one scenario. Calls made while
+ * {@link #recording} is off (the warm-up) are not counted.
+ */
+public class LatencyRecorder {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private long startNanos;
+    private long stopNanos;
+
+    public void start() {
+        endpoints.clear();
+        startNanos = System.nanoTime();
+        recording = true;
+    }
+
+    public void stop() {
+        recording = false;
+        stopNanos = System.nanoTime();
+    }
+
+    public void record(String endpoint, long latencyNanos, boolean failed) {
+        if (!recording) {
+            return;
+        }
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, ignored -> new EndpointStats());
+        stats.latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_TRACKABLE_MICROS));
+        if (failed) {
+            stats.errors.increment();
+        }
+    }
+
+    public List<EndpointSummary> summaries() {
+        double seconds = (stopNanos - startNanos) / 1e9;
+        List<EndpointSummary> summaries = new ArrayList<>();
+        endpoints.forEach((endpoint, stats) -> {
+            Histogram h = stats.latencies;
+            summaries.add(new EndpointSummary(endpoint, h.getTotalCount(), stats.errors.sum(),
+                    h.getTotalCount() / seconds,
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                    millis(h.getValueAtPercentile(99)), millis(h.getValueAtPercentile(99.9)),
+                    millis(h.getMaxValue())));
+        });
+        summaries.sort((a, b) -> a.endpoint().compareTo(b.endpoint()));
+        return summaries;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class EndpointStats {
+        final Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+    }
+
+    public record EndpointSummary(String endpoint, long requests, long errors, double throughput,
+            double p50, double p90, double p99, double p999, double max) {
+    }
+}
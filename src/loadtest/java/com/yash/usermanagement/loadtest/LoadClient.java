@@ -0,0 +1,86 @@
+package com.yash.usermanagement.loadtest;
+
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * HTTP client for the service under test. Every call is timed and recorded under its endpoint
+ * template (for example {@code GET /api/users/{id}}), so percentiles are reported per endpoint rather
+ * than per URL.
+ */
+public class LoadClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final LatencyRecorder recorder;
+
+    public LoadClient(URI baseUri, ObjectMapper objectMapper, LatencyRecorder recorder) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        this.objectMapper = objectMapper;
+        this.baseUri = baseUri;
+        this.recorder = recorder;
+    }
+
+    public Response call(String endpoint, String method, String path, Object body, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Accept", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(write(body)));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            recorder.record(endpoint, System.nanoTime() - start, response.statusCode() >= 400);
+            return new Response(response.statusCode(), response.body());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, true);
+            return new Response(-1, new byte[0]);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(-1, new byte[0]);
+        }
+    }
+
+    public <T> T read(Response response, Class<T> type) {
+        try {
+            return objectMapper.readValue(response.body(), Argument.of(type));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable response with status " + response.status(), e);
+        }
+    }
+
+    private byte[] write(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record Response(int status, byte[] body) {
+
+        public boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+}
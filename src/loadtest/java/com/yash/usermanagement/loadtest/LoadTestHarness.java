@@ -0,0 +1,85 @@
+package com.yash.usermanagement.loadtest;
+
+import com.yash.usermanagement.Application;
+import com.yash.usermanagement.config.DynamoDbTableProvisioner;
+import com.yash.usermanagement.loadtest.DataSeeder.SeededUser;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.runtime.Micronaut;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.serde.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starts embedded Postgres, DynamoDB Local and the SendGrid/FCM/Gemini stubs, starts the application
+ * against them in the {@value #ENVIRONMENT} environment, seeds data and runs the selected scenarios.
+ * Results go to stdout and to {@code build/loadtest/report.txt} and {@code report.csv}.
+ *
+ * <p>Run with {@code ./gradlew loadTest -PloadTestArgs="--concurrency=100 --duration=60s"}.
+ */
+public final class LoadTestHarness {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoadTestHarness.class);
+
+    public static final String ENVIRONMENT = "loadtest";
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+        LoadTestReport report = new LoadTestReport(settings);
+
+        try (LocalDatastores datastores = new LocalDatastores();
+                StubDependencyServer stubs = new StubDependencyServer(
+                        settings.stub("sendgrid", "80ms", "40ms"),
+                        settings.stub("fcm", "40ms", "20ms"),
+                        settings.stub("gemini", "800ms", "400ms"));
+                ApplicationContext context = startApplication(datastores, stubs)) {
+
+            context.getBean(DynamoDbTableProvisioner.class).provision();
+            List<SeededUser> users = new DataSeeder(context).seed(settings);
+            LatencyRecorder recorder = new LatencyRecorder();
+            LoadClient client = new LoadClient(context.getBean(EmbeddedServer.class).getURI(),
+                    ObjectMapper.getDefault(), recorder);
+            LoadTestRun run = new LoadTestRun(settings, client, recorder, users, stubs);
+
+            for (String name : settings.scenarios()) {
+                Scenario scenario = scenario(name);
+                LOG.info("Running scenario {}", name);
+                String notes = scenario.run(run);
+                report.add(name, recorder.summaries(), notes);
+            }
+        }
+
+        System.out.println(report.text());
+        report.write(settings.outputDirectory());
+        LOG.info("Report written to {}", settings.outputDirectory().toAbsolutePath());
+    }
+
+    private static ApplicationContext startApplication(LocalDatastores datastores, StubDependencyServer stubs) {
+        Map<String, Object> properties = new HashMap<>(datastores.applicationProperties());
+        properties.put("micronaut.http.services.sendgrid.url", stubs.baseUrl());
+        properties.put("micronaut.http.services.gemini.url", stubs.baseUrl());
+        properties.put("firebase.endpoint", stubs.baseUrl());
+        return Micronaut.build()
+                .mainClass(Application.class)
+                .environments(ENVIRONMENT)
+                .properties(properties)
+                .start();
+    }
+
+    private static Scenario scenario(String name) {
+        return switch (name) {
+            case "login-storm" -> new LoginStormScenario();
+            case "user-crud" -> new UserCrudScenario();
+            case "inbox-polling" -> new InboxPollingScenario();
+            case "broadcast" -> new BroadcastScenario();
+            default -> throw new IllegalArgumentException("Unknown scenario: " + name);
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.yash.usermanagement.loadtest;
+
+import com.yash.usermanagement.loadtest.LatencyRecorder.EndpointSummary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Collects the per-endpoint summaries of every scenario and writes them as a readable table and as CSV.
+ */
+public class LoadTestReport {
+
+    private static final String HEADER = String.format(Locale.ROOT, "%-62s %9s %7s %10s %9s %9s %9s %9s %9s",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+    private final StringBuilder text = new StringBuilder();
+    private final List<String> csv = new ArrayList<>(
+            List.of("scenario,endpoint,requests,errors,throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms"));
+
+    public LoadTestReport(LoadTestSettings settings) {
+        text.append("Load test ").append(settings).append(System.lineSeparator());
+    }
+
+    public void add(String scenario, List<EndpointSummary> summaries, String notes) {
+        text.append(System.lineSeparator()).append("== ").append(scenario).append(System.lineSeparator())
+                .append(HEADER).append(System.lineSeparator());
+        for (EndpointSummary s : summaries) {
+            text.append(String.format(Locale.ROOT, "%-62s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    s.endpoint(), s.requests(), s.errors(), s.throughput(), s.p50(), s.p90(), s.p99(), s.p999(),
+                    s.max()));
+            csv.add(String.format(Locale.ROOT, "%s,\"%s\",%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f", scenario,
+                    s.endpoint(), s.requests(), s.errors(), s.throughput(), s.p50(), s.p90(), s.p99(), s.p999(),
+                    s.max()));
+        }
+        text.append(notes);
+    }
+
+    public String text() {
+        return text.toString();
+    }
+
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("report.txt"), text());
+        Files.write(directory.resolve("report.csv"), csv);
+    }
+}
@@ -0,0 +1,33 @@
+package com.yash.usermanagement.loadtest;
+
+import com.yash.usermanagement.dto.LoginRequestDTO;
+import com.yash.usermanagement.dto.LoginResponseDTO;
+import com.yash.usermanagement.loadtest.DataSeeder.SeededUser;
+
+import java.util.List;
+
+/**
+ * What a scenario can use: the client, the seeded users and the dependency stubs.
+ */
+public record LoadTestRun(LoadTestSettings settings, LoadClient client, LatencyRecorder recorder,
+        List<SeededUser> users, StubDependencyServer stubs) {
+
+    /**
+     * Logs in and returns the access token. Failed logins throw, because a scenario cannot continue
+     * without a token.
+     */
+    public String login(String email, String password) {
+        LoginRequestDTO request = new LoginRequestDTO();
+        request.setEmail(email);
+        request.setPassword(password);
+        LoadClient.Response response = client.call("POST /api/auth/login", "POST", "/api/auth/login", request, null);
+        if (!response.ok()) {
+            throw new IllegalStateException("Login failed for " + email + " with status " + response.status());
+        }
+        return client.read(response, LoginResponseDTO.class).getAccessToken();
+    }
+
+    public String adminToken() {
+        return login(DataSeeder.ADMIN_EMAIL, DataSeeder.PASSWORD);
+    }
+}
@@ -0,0 +1,136 @@
+package com.yash.usermanagement.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Harness options, given as {@code --name=value} arguments. Everything has a default that runs on a
+ * laptop in a few minutes.
+ */
+public class LoadTestSettings {
+
+    private final Map<String, String> values;
+
+    private LoadTestSettings(Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static LoadTestSettings parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestSettings(values);
+    }
+
+    /** Scenarios to run, in order. */
+    public List<String> scenarios() {
+        return list("scenarios", "login-storm,user-crud,inbox-polling,broadcast");
+    }
+
+    /** Concurrent virtual users per closed-loop scenario. */
+    public int concurrency() {
+        return integer("concurrency", 50);
+    }
+
+    /** Unrecorded run time before measuring, for JIT and connection pools. */
+    public Duration warmup() {
+        return duration("warmup", "10s");
+    }
+
+    /** Measured run time of each closed-loop scenario. */
+    public Duration duration() {
+        return duration("duration", "30s");
+    }
+
+    /** Pause between iterations of one virtual user; zero drives the service as hard as it goes. */
+    public Duration thinkTime() {
+        return duration("think-time", "0ms");
+    }
+
+    /** Users seeded into Postgres, each with one registered device. */
+    public int users() {
+        return integer("users", 10_000);
+    }
+
+    /** Seeded users that get an inbox for the polling scenario. */
+    public int inboxUsers() {
+        return Math.min(users(), integer("inbox-users", 500));
+    }
+
+    /** Notifications seeded into each inbox. */
+    public int inboxSize() {
+        return integer("inbox-size", 20);
+    }
+
+    /** Channels the broadcast scenario sends on, one broadcast each. */
+    public List<String> broadcastChannels() {
+        return list("broadcast-channels", "email,push");
+    }
+
+    public String broadcastPriority() {
+        return values.getOrDefault("broadcast-priority", "HIGH");
+    }
+
+    /** How long to wait for a broadcast to reach the stubs before giving up. */
+    public Duration drainTimeout() {
+        return duration("drain-timeout", "10m");
+    }
+
+    /** Seed for every random choice, so two runs issue the same request sequence per virtual user. */
+    public long seed() {
+        return Long.parseLong(values.getOrDefault("seed", "42"));
+    }
+
+    public Path outputDirectory() {
+        return Path.of(values.getOrDefault("output", "build/loadtest"));
+    }
+
+    /**
+     * Latency and error rate of a stub, from {@code --<name>-latency}, {@code --<name>-jitter} and
+     * {@code --<name>-error-rate}.
+     */
+    public StubBehaviour stub(String name, String defaultLatency, String defaultJitter) {
+        return new StubBehaviour(duration(name + "-latency", defaultLatency),
+                duration(name + "-jitter", defaultJitter),
+                Double.parseDouble(values.getOrDefault(name + "-error-rate", "0")));
+    }
+
+    @Override
+    public String toString() {
+        return values.toString();
+    }
+
+    private int integer(String name, int defaultValue) {
+        return values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+    }
+
+    private List<String> list(String name, String defaultValue) {
+        return Arrays.stream(values.getOrDefault(name, defaultValue).split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+
+    private Duration duration(String name, String defaultValue) {
+        String value = values.getOrDefault(name, defaultValue).trim();
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration for --" + name + ": " + value);
+        };
+    }
+}
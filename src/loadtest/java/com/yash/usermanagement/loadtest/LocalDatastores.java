@@ -0,0 +1,61 @@
+package com.yash.usermanagement.loadtest;
+
+import com.amazonaws.services.dynamodbv2.local.main.ServerRunner;
+import com.amazonaws.services.dynamodbv2.local.server.DynamoDBProxyServer;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Map;
+
+/**
+ * Embedded PostgreSQL and in-memory DynamoDB Local, both started inside the harness JVM on free
+ * ports. Nothing is shared between runs, so every run starts from the same empty state.
+ */
+public class LocalDatastores implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalDatastores.class);
+
+    private final EmbeddedPostgres postgres;
+    private final DynamoDBProxyServer dynamoDb;
+    private final int dynamoDbPort;
+
+    public LocalDatastores() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        LOG.info("Embedded PostgreSQL listening on port {}", postgres.getPort());
+
+        dynamoDbPort = freePort();
+        dynamoDb = ServerRunner.createServerFromCommandLineArgs(
+                new String[] { "-inMemory", "-port", String.valueOf(dynamoDbPort) });
+        dynamoDb.start();
+        LOG.info("DynamoDB Local listening on port {}", dynamoDbPort);
+    }
+
+    /**
+     * Configuration that points the application at these datastores.
+     */
+    public Map<String, Object> applicationProperties() {
+        return Map.of(
+                "datasources.default.url", postgres.getJdbcUrl("postgres", "postgres"),
+                "datasources.default.username", "postgres",
+                "datasources.default.password", "postgres",
+                "dynamodb.endpoint", "http://127.0.0.1:" + dynamoDbPort);
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            dynamoDb.stop();
+        } finally {
+            postgres.close();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.yash.usermanagement.loadtest;
+
+import com.yash.usermanagement.dto.LoginRequestDTO;
+import com.yash.usermanagement.loadtest.DataSeeder.SeededUser;
+
+import java.util.SplittableRandom;
+
+/**
+ * Every virtual user logs in as a random seeded user, over and over: user lookup plus JWT signing.
+ */
+public class LoginStormScenario extends ClosedLoopScenario<Void> {
+
+    @Override
+    public String name() {
+        return "login-storm";
+    }
+
+    @Override
+    protected Void prepare(LoadTestRun run, int virtualUser) {
+        return null;
+    }
+
+    @Override
+    protected void iteration(LoadTestRun run, Void state, SplittableRandom random) {
+        SeededUser user = run.users().get(random.nextInt(run.users().size()));
+        LoginRequestDTO request = new LoginRequestDTO();
+        request.setEmail(user.email());
+        request.setPassword(user.password());
+        run.client().call("POST /api/auth/login", "POST", "/api/auth/login", request, null);
+    }
+}
@@ -0,0 +1,15 @@
+package com.yash.usermanagement.loadtest;
+
+/**
+ * One scripted workload. Implementations record their calls through {@link LoadTestRun#client()}.
+ */
+public interface Scenario {
+
+    String name();
+
+    /**
+     * Runs the workload, including any warm-up, and returns notes for the report beyond the per-endpoint
+     * table (for example how long a broadcast took to drain).
+     */
+    String run(LoadTestRun run) throws Exception;
+}
@@ -0,0 +1,26 @@
+package com.yash.usermanagement.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency and failure profile of one stubbed dependency: each call sleeps for {@code latency} plus up
+ * to {@code jitter}, then fails with a 503 with probability {@code errorRate}.
+ */
+public record StubBehaviour(Duration latency, Duration jitter, double errorRate) {
+
+    public StubBehaviour {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("errorRate must be between 0 and 1: " + errorRate);
+        }
+    }
+
+    long nextDelayMillis() {
+        long jitterMillis = jitter.toMillis();
+        return latency.toMillis() + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+    }
+
+    boolean nextFails() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+}
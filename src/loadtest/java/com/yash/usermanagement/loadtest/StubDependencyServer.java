@@ -0,0 +1,139 @@
+package com.yash.usermanagement.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One local HTTP server standing in for SendGrid, FCM and Gemini. The paths are the ones the
+ * application calls, so only the base URLs need to be pointed here.
+ */
+public class StubDependencyServer implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StubDependencyServer.class);
+
+    private static final String GEMINI_RESPONSE = """
+            {"candidates":[{"content":{"parts":[{"text":"Your account has a new update waiting for you."}]}}]}""";
+
+    private final HttpServer server;
+    private final Endpoint sendGrid;
+    private final Endpoint fcm;
+    private final Endpoint gemini;
+
+    public StubDependencyServer(StubBehaviour sendGridBehaviour, StubBehaviour fcmBehaviour,
+            StubBehaviour geminiBehaviour) throws IOException {
+        sendGrid = new Endpoint("sendgrid", sendGridBehaviour, 202, "");
+        fcm = new Endpoint("fcm", fcmBehaviour, 200, null);
+        gemini = new Endpoint("gemini", geminiBehaviour, 200, GEMINI_RESPONSE);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/v3/mail/send", sendGrid);
+        // Credential check made by the SendGrid warm-up; not counted as a delivery
+        server.createContext("/v3/scopes", exchange -> {
+            try (exchange) {
+                Endpoint.respond(exchange, 200, "{\"scopes\":[\"mail.send\"]}");
+            }
+        });
+        server.createContext("/v1/projects/", fcm);
+        server.createContext("/v1beta/models/", gemini);
+        // Simulated latency must not queue requests behind each other
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        LOG.info("Dependency stubs listening on {}", baseUrl());
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public Endpoint sendGrid() {
+        return sendGrid;
+    }
+
+    public Endpoint fcm() {
+        return fcm;
+    }
+
+    public Endpoint gemini() {
+        return gemini;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    /**
+     * Counts calls and answers them according to its {@link StubBehaviour}.
+     */
+    public static final class Endpoint implements HttpHandler {
+
+        private final String name;
+        private final StubBehaviour behaviour;
+        private final int status;
+        private final String body;
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        private Endpoint(String name, StubBehaviour behaviour, int status, String body) {
+            this.name = name;
+            this.behaviour = behaviour;
+            this.status = status;
+            this.body = body;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public long succeeded() {
+            return succeeded.get();
+        }
+
+        public long failed() {
+            return failed.get();
+        }
+
+        public long total() {
+            return succeeded.get() + failed.get();
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try (exchange; InputStream in = exchange.getRequestBody()) {
+                in.transferTo(OutputStream.nullOutputStream());
+                Thread.sleep(behaviour.nextDelayMillis());
+                if (behaviour.nextFails()) {
+                    failed.incrementAndGet();
+                    respond(exchange, 503, "{\"error\":\"stubbed failure\"}");
+                    return;
+                }
+                long sequence = succeeded.incrementAndGet();
+                // FCM answers with the message name, which the SDK returns to the caller
+                respond(exchange, status, body != null ? body
+                        : "{\"name\":\"projects/local/messages/" + sequence + "\"}");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private static void respond(HttpExchange exchange, int status, String payload) throws IOException {
+            byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            if (bytes.length > 0) {
+                exchange.getResponseBody().write(bytes);
+            }
+        }
+    }
+}
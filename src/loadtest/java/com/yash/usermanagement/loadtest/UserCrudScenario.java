@@ -0,0 +1,92 @@
+package com.yash.usermanagement.loadtest;
+
+import com.yash.usermanagement.dto.CreateUserRequest;
+import com.yash.usermanagement.dto.UpdateUserRequest;
+import com.yash.usermanagement.dto.UserResponse;
+import com.yash.usermanagement.loadtest.DataSeeder.SeededUser;
+import com.yash.usermanagement.model.User;
+import com.yash.usermanagement.model.UserRole;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admin traffic against /api/users, mostly reads: 45% get by id, 20% get by email, 15% create,
+ * 10% update, 9% delete and 1% list all. Each virtual user only updates and deletes users it
+ * created, so the seeded users stay intact for the other scenarios.
+ */
+public class UserCrudScenario extends ClosedLoopScenario<UserCrudScenario.Admin> {
+
+    private final AtomicLong created = new AtomicLong();
+
+    @Override
+    public String name() {
+        return "user-crud";
+    }
+
+    @Override
+    protected Admin prepare(LoadTestRun run, int virtualUser) {
+        return new Admin(run.adminToken(), virtualUser);
+    }
+
+    @Override
+    protected void iteration(LoadTestRun run, Admin admin, SplittableRandom random) {
+        LoadClient client = run.client();
+        int roll = random.nextInt(100);
+        if (roll < 45) {
+            SeededUser user = randomUser(run, random);
+            client.call("GET /api/users/{id}", "GET", "/api/users/" + user.id(), null, admin.token);
+        } else if (roll < 65) {
+            SeededUser user = randomUser(run, random);
+            client.call("GET /api/users/email/{email}", "GET", "/api/users/email/" + user.email(), null, admin.token);
+        } else if (roll < 80 || admin.created.isEmpty()) {
+            create(client, admin);
+        } else if (roll < 90) {
+            UpdateUserRequest request = new UpdateUserRequest();
+            request.setFirstName("Updated");
+            client.call("PUT /api/users/{id}", "PUT", "/api/users/" + admin.created.peekLast(), request, admin.token);
+        } else if (roll < 99) {
+            client.call("DELETE /api/users/{id}", "DELETE", "/api/users/" + admin.created.pollFirst(), null, admin.token);
+        } else {
+            client.call("GET /api/users", "GET", "/api/users", null, admin.token);
+        }
+    }
+
+    private void create(LoadClient client, Admin admin) {
+        long sequence = created.incrementAndGet();
+        User template = DataSeeder.user("crud" + admin.virtualUser + "-" + sequence + "@loadtest.local",
+                UserRole.USER, 0);
+        CreateUserRequest request = new CreateUserRequest();
+        request.setFirstName(template.getFirstName());
+        request.setLastName(template.getLastName());
+        request.setEmail(template.getEmail());
+        request.setPassword(template.getPassword());
+        request.setDateOfBirth(template.getDateOfBirth());
+        request.setPhoneNumber(String.valueOf(8_000_000_000L + sequence));
+        request.setGender(template.getGender());
+        request.setRole(template.getRole());
+        request.setAddress(template.getAddress());
+        LoadClient.Response response = client.call("POST /api/users", "POST", "/api/users", request, admin.token);
+        if (response.ok()) {
+            admin.created.addLast(client.read(response, UserResponse.class).getId());
+        }
+    }
+
+    private static SeededUser randomUser(LoadTestRun run, SplittableRandom random) {
+        return run.users().get(random.nextInt(run.users().size()));
+    }
+
+    static final class Admin {
+        final String token;
+        final int virtualUser;
+        final Deque<UUID> created = new ArrayDeque<>();
+
+        Admin(String token, int virtualUser) {
+            this.token = token;
+            this.virtualUser = virtualUser;
+        }
+    }
+}
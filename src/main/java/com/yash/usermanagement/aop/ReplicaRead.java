@@ -0,0 +1,21 @@
+package com.yash.usermanagement.aop;
+
+import io.micronaut.aop.Around;
+import io.micronaut.context.annotation.Type;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sends the JDBC reads of the annotated method to the {@code replica} datasource when read-replica routing
+ * is enabled. Only for reads that tolerate replication lag.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Around
+@Type(ReplicaReadInterceptor.class)
+public @interface ReplicaRead {
+}
@@ -0,0 +1,24 @@
+package com.yash.usermanagement.aop;
+
+import com.yash.usermanagement.routing.ReplicaRouting;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class ReplicaReadInterceptor implements MethodInterceptor<Object, Object> {
+
+    private final ReplicaRouting routing;
+
+    public ReplicaReadInterceptor(ReplicaRouting routing) {
+        this.routing = routing;
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        if (!routing.replicaAllowed()) {
+            return context.proceed();
+        }
+        return routing.onReplica(context::proceed);
+    }
+}
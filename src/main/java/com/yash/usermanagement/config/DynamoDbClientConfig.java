@@ -0,0 +1,182 @@
+package com.yash.usermanagement.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import software.amazon.awssdk.core.retry.RetryMode;
+
+import java.time.Duration;
+
+/**
+ * DynamoDB client tuning, bound from {@code dynamodb}. Applies to both the sync and async clients;
+ * settings a given HTTP client does not support are ignored for it.
+ */
+@ConfigurationProperties("dynamodb")
+public class DynamoDbClientConfig {
+
+    public enum HttpClientType {
+        /** Apache HttpClient 4 for sync calls, Netty NIO for async calls. */
+        APACHE,
+        /** AWS Common Runtime client for both, lower latency and footprint but ships a native library. */
+        CRT
+    }
+
+    public enum TableProvisioning {
+        /** Tables are provisioned out-of-band with {@code ./gradlew provisionDynamoDbTables}. */
+        NONE,
+        /** Tables are created in the background after server startup, for local development. */
+        BACKGROUND
+    }
+
+    private String endpoint = "http://localhost:8000";
+    private String region = "us-east-1";
+    private HttpClientType httpClient = HttpClientType.APACHE;
+    private int maxConnections = 100;
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+    private Duration connectionAcquisitionTimeout = Duration.ofSeconds(5);
+    private Duration socketTimeout = Duration.ofSeconds(5);
+    private Duration connectionTimeToLive = Duration.ofMinutes(5);
+    private Duration connectionMaxIdleTime = Duration.ofSeconds(60);
+    private boolean tcpKeepAlive = true;
+    private Duration tcpKeepAliveInterval = Duration.ofSeconds(30);
+    private Duration apiCallAttemptTimeout = Duration.ofSeconds(2);
+    private Duration apiCallTimeout = Duration.ofSeconds(10);
+    private RetryMode retryMode = RetryMode.ADAPTIVE_V2;
+    private int maxAttempts = 3;
+    private boolean metricsEnabled = true;
+    private TableProvisioning tableProvisioning = TableProvisioning.NONE;
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public HttpClientType getHttpClient() {
+        return httpClient;
+    }
+
+    public void setHttpClient(HttpClientType httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    public void setConnectionTimeout(Duration connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    public Duration getConnectionAcquisitionTimeout() {
+        return connectionAcquisitionTimeout;
+    }
+
+    public void setConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+        this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+    }
+
+    public Duration getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    public void setSocketTimeout(Duration socketTimeout) {
+        this.socketTimeout = socketTimeout;
+    }
+
+    public Duration getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    public void setConnectionTimeToLive(Duration connectionTimeToLive) {
+        this.connectionTimeToLive = connectionTimeToLive;
+    }
+
+    public Duration getConnectionMaxIdleTime() {
+        return connectionMaxIdleTime;
+    }
+
+    public void setConnectionMaxIdleTime(Duration connectionMaxIdleTime) {
+        this.connectionMaxIdleTime = connectionMaxIdleTime;
+    }
+
+    public boolean isTcpKeepAlive() {
+        return tcpKeepAlive;
+    }
+
+    public void setTcpKeepAlive(boolean tcpKeepAlive) {
+        this.tcpKeepAlive = tcpKeepAlive;
+    }
+
+    public Duration getTcpKeepAliveInterval() {
+        return tcpKeepAliveInterval;
+    }
+
+    public void setTcpKeepAliveInterval(Duration tcpKeepAliveInterval) {
+        this.tcpKeepAliveInterval = tcpKeepAliveInterval;
+    }
+
+    public Duration getApiCallAttemptTimeout() {
+        return apiCallAttemptTimeout;
+    }
+
+    public void setApiCallAttemptTimeout(Duration apiCallAttemptTimeout) {
+        this.apiCallAttemptTimeout = apiCallAttemptTimeout;
+    }
+
+    public Duration getApiCallTimeout() {
+        return apiCallTimeout;
+    }
+
+    public void setApiCallTimeout(Duration apiCallTimeout) {
+        this.apiCallTimeout = apiCallTimeout;
+    }
+
+    public RetryMode getRetryMode() {
+        return retryMode;
+    }
+
+    public void setRetryMode(RetryMode retryMode) {
+        this.retryMode = retryMode;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    public TableProvisioning getTableProvisioning() {
+        return tableProvisioning;
+    }
+
+    public void setTableProvisioning(TableProvisioning tableProvisioning) {
+        this.tableProvisioning = tableProvisioning;
+    }
+}
@@ -3,30 +3,54 @@ package com.yash.usermanagement.config;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Primary;
-import io.micronaut.context.annotation.Value;
+import io.micronaut.runtime.context.scope.Refreshable;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClientBuilder;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
 
 import java.net.URI;
 
 @Factory
 public class DynamoDbConfig {
 
-    @Value("${dynamodb.endpoint:http://localhost:8000}")
-    private String dynamoDbEndpoint;
+    private final DynamoDbClientConfig config;
+    private final MicrometerSdkMetricPublisher metricPublisher;
 
-    @Bean
+    public DynamoDbConfig(DynamoDbClientConfig config, MicrometerSdkMetricPublisher metricPublisher) {
+        this.config = config;
+        this.metricPublisher = metricPublisher;
+    }
+
+    // Refreshable so the connection pool can be closed before a CRaC checkpoint and rebuilt on next use
+    @Bean(preDestroy = "close")
     @Primary
+    @Refreshable("dynamodb")
     public DynamoDbClient dynamoDbClient() {
-        return DynamoDbClient.builder()
-                .endpointOverride(URI.create(dynamoDbEndpoint))
-                .region(Region.US_EAST_1)
-                .credentialsProvider(StaticCredentialsProvider.create(
-                        AwsBasicCredentials.create("dummy", "dummy")))
-                .build();
+        DynamoDbClientBuilder builder = DynamoDbClient.builder()
+                .region(Region.of(config.getRegion()))
+                .credentialsProvider(credentialsProvider())
+                .httpClient(syncHttpClient())
+                .overrideConfiguration(overrideConfiguration());
+        if (hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(config.getEndpoint()));
+        }
+        return builder.build();
     }
 
     @Bean
@@ -36,4 +60,95 @@ public class DynamoDbConfig {
                 .dynamoDbClient(dynamoDbClient)
                 .build();
     }
-} 
\ No newline at end of file
+
+    @Bean(preDestroy = "close")
+    @Refreshable("dynamodb")
+    public DynamoDbAsyncClient dynamoDbAsyncClient() {
+        DynamoDbAsyncClientBuilder builder = DynamoDbAsyncClient.builder()
+                .region(Region.of(config.getRegion()))
+                .credentialsProvider(credentialsProvider())
+                .httpClient(asyncHttpClient())
+                .overrideConfiguration(overrideConfiguration());
+        if (hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(config.getEndpoint()));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient(DynamoDbAsyncClient dynamoDbAsyncClient) {
+        return DynamoDbEnhancedAsyncClient.builder()
+                .dynamoDbClient(dynamoDbAsyncClient)
+                .build();
+    }
+
+    private boolean hasEndpointOverride() {
+        return config.getEndpoint() != null && !config.getEndpoint().isBlank();
+    }
+
+    // DynamoDB Local accepts any key; against AWS use the default chain (env, profile, web identity, instance role)
+    private AwsCredentialsProvider credentialsProvider() {
+        if (hasEndpointOverride()) {
+            return StaticCredentialsProvider.create(AwsBasicCredentials.create("dummy", "dummy"));
+        }
+        return DefaultCredentialsProvider.create();
+    }
+
+    private ClientOverrideConfiguration overrideConfiguration() {
+        ClientOverrideConfiguration.Builder builder = ClientOverrideConfiguration.builder()
+                .apiCallAttemptTimeout(config.getApiCallAttemptTimeout())
+                .apiCallTimeout(config.getApiCallTimeout())
+                .retryStrategy(AwsRetryStrategy.forRetryMode(config.getRetryMode()).toBuilder()
+                        .maxAttempts(config.getMaxAttempts())
+                        .build());
+        if (config.isMetricsEnabled()) {
+            builder.addMetricPublisher(metricPublisher);
+        }
+        return builder.build();
+    }
+
+    // The SDK closes client-owned HTTP clients built here when the service client is closed
+    private SdkHttpClient syncHttpClient() {
+        if (config.getHttpClient() == DynamoDbClientConfig.HttpClientType.CRT) {
+            return AwsCrtHttpClient.builder()
+                    .maxConcurrency(config.getMaxConnections())
+                    .connectionTimeout(config.getConnectionTimeout())
+                    .connectionMaxIdleTime(config.getConnectionMaxIdleTime())
+                    .tcpKeepAliveConfiguration(keepAlive -> keepAlive
+                            .keepAliveInterval(config.getTcpKeepAliveInterval())
+                            .keepAliveTimeout(config.getConnectionTimeout()))
+                    .build();
+        }
+        return ApacheHttpClient.builder()
+                .maxConnections(config.getMaxConnections())
+                .connectionTimeout(config.getConnectionTimeout())
+                .connectionAcquisitionTimeout(config.getConnectionAcquisitionTimeout())
+                .socketTimeout(config.getSocketTimeout())
+                .connectionTimeToLive(config.getConnectionTimeToLive())
+                .connectionMaxIdleTime(config.getConnectionMaxIdleTime())
+                .tcpKeepAlive(config.isTcpKeepAlive())
+                .build();
+    }
+
+    private SdkAsyncHttpClient asyncHttpClient() {
+        if (config.getHttpClient() == DynamoDbClientConfig.HttpClientType.CRT) {
+            return AwsCrtAsyncHttpClient.builder()
+                    .maxConcurrency(config.getMaxConnections())
+                    .connectionTimeout(config.getConnectionTimeout())
+                    .connectionMaxIdleTime(config.getConnectionMaxIdleTime())
+                    .tcpKeepAliveConfiguration(keepAlive -> keepAlive
+                            .keepAliveInterval(config.getTcpKeepAliveInterval())
+                            .keepAliveTimeout(config.getConnectionTimeout()))
+                    .build();
+        }
+        return NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(config.getMaxConnections())
+                .connectionTimeout(config.getConnectionTimeout())
+                .connectionAcquisitionTimeout(config.getConnectionAcquisitionTimeout())
+                .readTimeout(config.getSocketTimeout())
+                .connectionTimeToLive(config.getConnectionTimeToLive())
+                .connectionMaxIdleTime(config.getConnectionMaxIdleTime())
+                .tcpKeepAlive(config.isTcpKeepAlive())
+                .build();
+    }
+}
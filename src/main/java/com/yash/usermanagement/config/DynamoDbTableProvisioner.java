@@ -0,0 +1,178 @@
+package com.yash.usermanagement.config;
+
+import com.yash.usermanagement.model.Notification;
+import com.yash.usermanagement.repository.NotificationCounterRepository;
+import com.yash.usermanagement.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.runtime.server.event.ServerStartupEvent;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Creates the notification tables, their GSI and TTL. Idempotent: existing tables are left alone.
+ * <p>
+ * Nothing here runs during context startup. With {@code dynamodb.table-provisioning: BACKGROUND} (local
+ * development) it runs on the IO executor once the server is up; with {@code NONE} (production) run it
+ * out-of-band before deploying:
+ * {@code ./gradlew provisionDynamoDbTables -PprovisionArgs="--endpoint http://localhost:8000"}
+ */
+@Singleton
+public class DynamoDbTableProvisioner {
+    private static final Logger LOG = LoggerFactory.getLogger(DynamoDbTableProvisioner.class);
+
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbClientConfig config;
+    private final ExecutorService ioExecutor;
+
+    public DynamoDbTableProvisioner(DynamoDbClient dynamoDbClient, DynamoDbClientConfig config,
+                                    @Named(TaskExecutors.IO) ExecutorService ioExecutor) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.config = config;
+        this.ioExecutor = ioExecutor;
+    }
+
+    public static void main(String[] args) {
+        DynamoDbClientConfig clientConfig = new DynamoDbClientConfig();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--endpoint" -> clientConfig.setEndpoint(args[++i]);
+                case "--region" -> clientConfig.setRegion(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+        DynamoDbConfig factory = new DynamoDbConfig(clientConfig, new MicrometerSdkMetricPublisher(new SimpleMeterRegistry()));
+        try (DynamoDbClient client = factory.dynamoDbClient()) {
+            provision(client);
+        }
+    }
+
+    @EventListener
+    public void onStartup(ServerStartupEvent event) {
+        if (config.getTableProvisioning() == DynamoDbClientConfig.TableProvisioning.BACKGROUND) {
+            ioExecutor.execute(this::provision);
+        }
+    }
+
+    public void provision() {
+        provision(dynamoDbClient);
+    }
+
+    private static void provision(DynamoDbClient client) {
+        createNotificationsTable(client);
+        createCountersTable(client);
+        enableNotificationExpiry(client);
+    }
+
+    private static void createCountersTable(DynamoDbClient client) {
+        try {
+            client.createTable(CreateTableRequest.builder()
+                    .tableName(NotificationCounterRepository.TABLE_NAME)
+                    .keySchema(KeySchemaElement.builder()
+                            .attributeName("userId")
+                            .keyType(KeyType.HASH)
+                            .build())
+                    .attributeDefinitions(AttributeDefinition.builder()
+                            .attributeName("userId")
+                            .attributeType(ScalarAttributeType.S)
+                            .build())
+                    .provisionedThroughput(ProvisionedThroughput.builder()
+                            .readCapacityUnits(5L)
+                            .writeCapacityUnits(5L)
+                            .build())
+                    .build());
+            LOG.info("Notification counters table created successfully");
+        } catch (ResourceInUseException e) {
+            LOG.info("Notification counters table already exists");
+        } catch (Exception e) {
+            LOG.error("Error creating notification counters table", e);
+        }
+    }
+
+    private static void createNotificationsTable(DynamoDbClient client) {
+        try {
+            ProvisionedThroughput throughput = ProvisionedThroughput.builder()
+                    .readCapacityUnits(5L)
+                    .writeCapacityUnits(5L)
+                    .build();
+            CreateTableRequest request = CreateTableRequest.builder()
+                    .tableName(NotificationRepository.TABLE_NAME)
+                    .keySchema(
+                            KeySchemaElement.builder()
+                                    .attributeName("userId")
+                                    .keyType(KeyType.HASH)
+                                    .build(),
+                            KeySchemaElement.builder()
+                                    .attributeName("id")
+                                    .keyType(KeyType.RANGE)
+                                    .build()
+                    )
+                    .attributeDefinitions(
+                            AttributeDefinition.builder()
+                                    .attributeName("userId")
+                                    .attributeType(ScalarAttributeType.S)
+                                    .build(),
+                            AttributeDefinition.builder()
+                                    .attributeName("id")
+                                    .attributeType(ScalarAttributeType.S)
+                                    .build()
+                    )
+                    .globalSecondaryIndexes(
+                            GlobalSecondaryIndex.builder()
+                                    .indexName(Notification.ID_INDEX)
+                                    .keySchema(KeySchemaElement.builder()
+                                            .attributeName("id")
+                                            .keyType(KeyType.HASH)
+                                            .build())
+                                    .projection(Projection.builder()
+                                            .projectionType(ProjectionType.ALL)
+                                            .build())
+                                    .provisionedThroughput(throughput)
+                                    .build()
+                    )
+                    .provisionedThroughput(throughput)
+                    .build();
+
+            client.createTable(request);
+            LOG.info("Notifications table created successfully");
+        } catch (ResourceInUseException e) {
+            LOG.info("Notifications table already exists");
+        } catch (Exception e) {
+            LOG.error("Error creating notifications table", e);
+        }
+    }
+
+    private static void enableNotificationExpiry(DynamoDbClient client) {
+        try {
+            // UpdateTimeToLive is rejected while the table is still CREATING
+            client.waiter().waitUntilTableExists(DescribeTableRequest.builder()
+                    .tableName(NotificationRepository.TABLE_NAME)
+                    .build());
+            TimeToLiveStatus status = client.describeTimeToLive(DescribeTimeToLiveRequest.builder()
+                            .tableName(NotificationRepository.TABLE_NAME)
+                            .build())
+                    .timeToLiveDescription()
+                    .timeToLiveStatus();
+            if (status == TimeToLiveStatus.ENABLED || status == TimeToLiveStatus.ENABLING) {
+                return;
+            }
+            client.updateTimeToLive(UpdateTimeToLiveRequest.builder()
+                    .tableName(NotificationRepository.TABLE_NAME)
+                    .timeToLiveSpecification(TimeToLiveSpecification.builder()
+                            .attributeName("expiresAt")
+                            .enabled(true)
+                            .build())
+                    .build());
+            LOG.info("Enabled TTL on expiresAt for notifications table");
+        } catch (Exception e) {
+            LOG.error("Error enabling TTL on notifications table", e);
+        }
+    }
+}
@@ -7,6 +7,14 @@ public class FirebaseConfig {
 
     private String serviceAccountKeyPath;
 
+    /**
+     * Base URL that replaces the Google API hosts, e.g. a local FCM stand-in. When set, the service
+     * account key is not read and a static access token is used instead.
+     */
+    private String endpoint;
+
+    private String projectId = "local";
+
     public String getServiceAccountKeyPath() {
         return serviceAccountKeyPath;
     }
@@ -14,4 +22,20 @@ public class FirebaseConfig {
     public void setServiceAccountKeyPath(String serviceAccountKeyPath) {
         this.serviceAccountKeyPath = serviceAccountKeyPath;
     }
-} 
\ No newline at end of file
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(String projectId) {
+        this.projectId = projectId;
+    }
+}
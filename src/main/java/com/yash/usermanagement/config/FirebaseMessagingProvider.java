@@ -0,0 +1,164 @@
+package com.yash.usermanagement.config;
+
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.yash.usermanagement.exception.DependencyUnavailableException;
+import com.yash.usermanagement.health.IntegrationStatus;
+import com.yash.usermanagement.health.IntegrationStatus.State;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Initializes {@link FirebaseApp} on first use (or from the background warm-up) instead of during bean
+ * creation, so missing or unreadable credentials no longer fail startup. A failed initialization is
+ * retried at most once per {@link #RETRY_INTERVAL}; calls in between fail fast.
+ */
+@Singleton
+public class FirebaseMessagingProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FirebaseMessagingProvider.class);
+    private static final Duration RETRY_INTERVAL = Duration.ofSeconds(30);
+
+    private final FirebaseConfig firebaseConfig;
+    // Not synchronized: initialization does blocking I/O and would pin a virtual thread
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile FirebaseMessaging messaging;
+    private volatile IntegrationStatus status = IntegrationStatus.of(State.LAZY, null);
+    private volatile long nextAttemptNanos;
+
+    public FirebaseMessagingProvider(FirebaseConfig firebaseConfig) {
+        this.firebaseConfig = firebaseConfig;
+    }
+
+    /**
+     * Returns the messaging client, initializing it if needed.
+     *
+     * @throws DependencyUnavailableException if Firebase cannot be initialized
+     */
+    public FirebaseMessaging get() {
+        FirebaseMessaging current = messaging;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (messaging != null) {
+                return messaging;
+            }
+            if (status.state() != State.LAZY && status.state() != State.WARMING
+                    && System.nanoTime() < nextAttemptNanos) {
+                throw new DependencyUnavailableException("Firebase is not available: " + status.detail());
+            }
+            long start = System.nanoTime();
+            try {
+                messaging = FirebaseMessaging.getInstance(initialize());
+                status = IntegrationStatus.of(State.READY, null);
+                LOG.info("Firebase initialized in {} ms", (System.nanoTime() - start) / 1_000_000);
+                return messaging;
+            } catch (IOException | RuntimeException e) {
+                nextAttemptNanos = System.nanoTime() + RETRY_INTERVAL.toNanos();
+                status = IntegrationStatus.of(e instanceof MissingCredentialsException ? State.UNCONFIGURED
+                        : State.FAILED, e.getMessage());
+                LOG.error("Firebase initialization failed", e);
+                throw new DependencyUnavailableException("Firebase initialization failed: " + e.getMessage(), e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Initializes Firebase ahead of the first push, reporting {@link State#WARMING} meanwhile.
+     */
+    public void warmUp() {
+        if (messaging != null) {
+            return;
+        }
+        status = IntegrationStatus.of(State.WARMING, null);
+        try {
+            get();
+        } catch (DependencyUnavailableException e) {
+            // Already recorded in status
+        }
+    }
+
+    /**
+     * Deletes the {@link FirebaseApp}, stopping its token refresh and releasing its transport, so the next
+     * call initializes a fresh one. Used before a CRaC checkpoint.
+     */
+    public void reset() {
+        lock.lock();
+        try {
+            messaging = null;
+            FirebaseApp.getApps().forEach(FirebaseApp::delete);
+            status = IntegrationStatus.of(State.LAZY, null);
+            nextAttemptNanos = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public IntegrationStatus status() {
+        return status;
+    }
+
+    private FirebaseApp initialize() throws IOException {
+        if (!FirebaseApp.getApps().isEmpty()) {
+            return FirebaseApp.getInstance();
+        }
+        FirebaseOptions options = firebaseConfig.getEndpoint() != null && !firebaseConfig.getEndpoint().isBlank()
+                ? localOptions(firebaseConfig.getEndpoint())
+                : serviceAccountOptions();
+        return FirebaseApp.initializeApp(options);
+    }
+
+    private FirebaseOptions serviceAccountOptions() throws IOException {
+        String serviceAccountPath = firebaseConfig.getServiceAccountKeyPath();
+        if (serviceAccountPath == null || !serviceAccountPath.startsWith("classpath:")) {
+            throw new MissingCredentialsException("Firebase service account key path not configured properly in application.yml. It should be a classpath resource.");
+        }
+
+        String path = serviceAccountPath.substring("classpath:".length());
+        try (InputStream serviceAccount = getClass().getClassLoader().getResourceAsStream(path)) {
+            if (serviceAccount == null) {
+                throw new MissingCredentialsException("Resource not found: " + serviceAccountPath);
+            }
+            return FirebaseOptions.builder()
+                    .setCredentials(GoogleCredentials.fromStream(serviceAccount))
+                    .build();
+        }
+    }
+
+    private FirebaseOptions localOptions(String endpoint) {
+        LOG.warn("Sending Firebase requests to {} instead of Google", endpoint);
+        URI base = URI.create(endpoint);
+        // The SDK has no endpoint setting, so requests are rewritten at the connection level
+        NetHttpTransport transport = new NetHttpTransport.Builder()
+                .setConnectionFactory(url -> (HttpURLConnection) base.resolve(url.getFile()).toURL().openConnection())
+                .build();
+        return FirebaseOptions.builder()
+                .setCredentials(GoogleCredentials.create(new AccessToken("local", new Date(Long.MAX_VALUE))))
+                .setProjectId(firebaseConfig.getProjectId())
+                .setHttpTransport(transport)
+                .build();
+    }
+
+    private static final class MissingCredentialsException extends IOException {
+        MissingCredentialsException(String message) {
+            super(message);
+        }
+    }
+}
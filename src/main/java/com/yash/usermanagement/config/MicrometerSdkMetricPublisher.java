@@ -0,0 +1,95 @@
+package com.yash.usermanagement.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.inject.Singleton;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bridges AWS SDK v2 client metrics into Micrometer. {@link #publish} runs on the SDK's request
+ * thread after every API call, so it only updates meters and never blocks.
+ */
+@Singleton
+public class MicrometerSdkMetricPublisher implements MetricPublisher {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> poolGauges = new ConcurrentHashMap<>();
+
+    public MicrometerSdkMetricPublisher(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void publish(MetricCollection apiCall) {
+        String service = first(apiCall, CoreMetric.SERVICE_ID, "unknown");
+        Tags tags = Tags.of("service", service, "operation", first(apiCall, CoreMetric.OPERATION_NAME, "unknown"));
+        boolean successful = first(apiCall, CoreMetric.API_CALL_SUCCESSFUL, false);
+
+        record("aws.sdk.api.call", tags.and("outcome", successful ? "success" : "failure"),
+                first(apiCall, CoreMetric.API_CALL_DURATION, null));
+        Integer retries = first(apiCall, CoreMetric.RETRY_COUNT, 0);
+        if (retries > 0) {
+            meterRegistry.counter("aws.sdk.retries", tags).increment(retries);
+        }
+
+        for (MetricCollection attempt : apiCall.children()) {
+            record("aws.sdk.api.call.attempt", tags.and("status", String.valueOf(first(attempt, HttpMetric.HTTP_STATUS_CODE, 0))),
+                    first(attempt, CoreMetric.SERVICE_CALL_DURATION, null));
+            record("aws.sdk.backoff", tags, first(attempt, CoreMetric.BACKOFF_DELAY_DURATION, null));
+            for (MetricCollection http : attempt.children()) {
+                publishPool(service, http);
+            }
+        }
+    }
+
+    private void publishPool(String service, MetricCollection http) {
+        String client = first(http, HttpMetric.HTTP_CLIENT_NAME, "unknown");
+        Tags tags = Tags.of("service", service, "client", client);
+        gauge("aws.sdk.http.pool.max", tags, first(http, HttpMetric.MAX_CONCURRENCY, null));
+        gauge("aws.sdk.http.pool.available", tags, first(http, HttpMetric.AVAILABLE_CONCURRENCY, null));
+        gauge("aws.sdk.http.pool.leased", tags, first(http, HttpMetric.LEASED_CONCURRENCY, null));
+        gauge("aws.sdk.http.pool.pending", tags, first(http, HttpMetric.PENDING_CONCURRENCY_ACQUIRES, null));
+        record("aws.sdk.http.pool.acquire", tags, first(http, HttpMetric.CONCURRENCY_ACQUIRE_DURATION, null));
+    }
+
+    private void record(String name, Tags tags, Duration duration) {
+        if (duration != null) {
+            meterRegistry.timer(name, tags).record(duration);
+        }
+    }
+
+    private void gauge(String name, Tags tags, Integer value) {
+        if (value == null) {
+            return;
+        }
+        poolGauges.computeIfAbsent(name + tags, key -> {
+            AtomicInteger holder = new AtomicInteger();
+            Gauge.builder(name, holder, AtomicInteger::get).tags(tags).register(meterRegistry);
+            return holder;
+        }).set(value);
+    }
+
+    private static <T> T first(MetricCollection collection, SdkMetric<T> metric, T defaultValue) {
+        for (MetricRecord<?> record : collection) {
+            if (record.metric().equals(metric)) {
+                return metric.valueClass().cast(record.value());
+            }
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public void close() {
+    }
+}
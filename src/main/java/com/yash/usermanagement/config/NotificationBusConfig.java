@@ -0,0 +1,48 @@
+package com.yash.usermanagement.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("micronaut.notifications.bus")
+public class NotificationBusConfig {
+
+    /** {@code memory} for a single node or tests, {@code postgres} to fan out across nodes via LISTEN/NOTIFY. */
+    private String type = "memory";
+    private String channel = "notifications";
+    // Outgoing notifications are buffered and flushed as one NOTIFY per chunk once per tick
+    private Duration tick = Duration.ofMillis(50);
+    private int maxQueued = 10000;
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    public Duration getTick() {
+        return tick;
+    }
+
+    public void setTick(Duration tick) {
+        this.tick = tick;
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    public void setMaxQueued(int maxQueued) {
+        this.maxQueued = maxQueued;
+    }
+}
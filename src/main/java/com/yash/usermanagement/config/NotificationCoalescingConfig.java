@@ -0,0 +1,29 @@
+package com.yash.usermanagement.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("micronaut.notifications.coalescing")
+public class NotificationCoalescingConfig {
+
+    private boolean enabled = true;
+    // Notifications of the same type for the same user inside one window are delivered once
+    private Duration window = Duration.ofSeconds(60);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+}
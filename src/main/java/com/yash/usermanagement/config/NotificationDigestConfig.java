@@ -0,0 +1,53 @@
+package com.yash.usermanagement.config;
+
+import com.yash.usermanagement.model.NotificationPriority;
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("micronaut.notifications.digest")
+public class NotificationDigestConfig {
+
+    private boolean enabled = true;
+    // Each user receives at most one digest per interval
+    private Duration interval = Duration.ofHours(1);
+    // SendGrid accepts up to 1000 personalizations per request
+    private int usersPerBatch = 500;
+    private int maxItemsPerDigest = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public int getUsersPerBatch() {
+        return usersPerBatch;
+    }
+
+    public void setUsersPerBatch(int usersPerBatch) {
+        this.usersPerBatch = usersPerBatch;
+    }
+
+    public int getMaxItemsPerDigest() {
+        return maxItemsPerDigest;
+    }
+
+    public void setMaxItemsPerDigest(int maxItemsPerDigest) {
+        this.maxItemsPerDigest = maxItemsPerDigest;
+    }
+
+    public boolean isDigested(NotificationPriority priority) {
+        return enabled && (priority == NotificationPriority.LOW || priority == NotificationPriority.MEDIUM);
+    }
+}
@@ -0,0 +1,44 @@
+package com.yash.usermanagement.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+@ConfigurationProperties("micronaut.notifications.executor")
+public class NotificationExecutorConfig {
+
+    public enum RejectionPolicy {
+        /** Run the task on the submitting thread, trading request latency for no lost notifications. */
+        CALLER_RUNS,
+        /** Fail the returned future. */
+        ABORT,
+        /** Drop the task and log it. */
+        DISCARD
+    }
+
+    private int poolSize = 4;
+    private int queueCapacity = 1000;
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+        this.rejectionPolicy = rejectionPolicy;
+    }
+}
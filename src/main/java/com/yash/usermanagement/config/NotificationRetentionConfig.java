@@ -0,0 +1,75 @@
+package com.yash.usermanagement.config;
+
+import com.yash.usermanagement.model.Notification;
+import com.yash.usermanagement.model.NotificationPriority;
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * How long notifications are kept per priority before DynamoDB TTL removes them.
+ */
+@ConfigurationProperties("micronaut.notifications.retention")
+public class NotificationRetentionConfig {
+
+    private Duration low = Duration.ofDays(30);
+    private Duration medium = Duration.ofDays(90);
+    private Duration high = Duration.ofDays(180);
+    private Duration urgent = Duration.ofDays(365);
+
+    public Duration forPriority(NotificationPriority priority) {
+        if (priority == null) {
+            return medium;
+        }
+        return switch (priority) {
+            case LOW -> low;
+            case MEDIUM -> medium;
+            case HIGH -> high;
+            case URGENT -> urgent;
+        };
+    }
+
+    /**
+     * Epoch seconds at which the notification should expire, counted from its creation time.
+     */
+    public long expiresAt(Notification notification) {
+        LocalDateTime createdAt = notification.getCreatedAt() != null ? notification.getCreatedAt() : LocalDateTime.now();
+        return createdAt.atZone(ZoneId.systemDefault())
+                .plus(forPriority(notification.getPriority()))
+                .toEpochSecond();
+    }
+
+    public Duration getLow() {
+        return low;
+    }
+
+    public void setLow(Duration low) {
+        this.low = low;
+    }
+
+    public Duration getMedium() {
+        return medium;
+    }
+
+    public void setMedium(Duration medium) {
+        this.medium = medium;
+    }
+
+    public Duration getHigh() {
+        return high;
+    }
+
+    public void setHigh(Duration high) {
+        this.high = high;
+    }
+
+    public Duration getUrgent() {
+        return urgent;
+    }
+
+    public void setUrgent(Duration urgent) {
+        this.urgent = urgent;
+    }
+}
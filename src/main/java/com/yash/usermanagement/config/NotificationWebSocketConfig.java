@@ -0,0 +1,39 @@
+package com.yash.usermanagement.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("micronaut.notifications.websocket")
+public class NotificationWebSocketConfig {
+
+    // Unacknowledged writes a session may have in flight before it is treated as a slow consumer
+    private int maxPendingMessages = 64;
+    private int maxSessionsPerUser = 5;
+    // Lifetime of a connect ticket from POST /api/notifications/ws-ticket
+    private Duration ticketTtl = Duration.ofSeconds(30);
+
+    public int getMaxPendingMessages() {
+        return maxPendingMessages;
+    }
+
+    public void setMaxPendingMessages(int maxPendingMessages) {
+        this.maxPendingMessages = maxPendingMessages;
+    }
+
+    public int getMaxSessionsPerUser() {
+        return maxSessionsPerUser;
+    }
+
+    public void setMaxSessionsPerUser(int maxSessionsPerUser) {
+        this.maxSessionsPerUser = maxSessionsPerUser;
+    }
+
+    public Duration getTicketTtl() {
+        return ticketTtl;
+    }
+
+    public void setTicketTtl(Duration ticketTtl) {
+        this.ticketTtl = ticketTtl;
+    }
+}
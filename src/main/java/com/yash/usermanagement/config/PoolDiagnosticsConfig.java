@@ -0,0 +1,48 @@
+package com.yash.usermanagement.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("diagnostics.pool")
+public class PoolDiagnosticsConfig {
+
+    private boolean enabled = true;
+    // Sampled every diagnostics.pool.sample-interval; the window covers the last samples only
+    private Duration sampleInterval = Duration.ofSeconds(1);
+    private int window = 300;
+    /** Average connection acquire time above which a sample counts as waiting on the pool. */
+    private Duration acquireWarning = Duration.ofMillis(20);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getSampleInterval() {
+        return sampleInterval;
+    }
+
+    public void setSampleInterval(Duration sampleInterval) {
+        this.sampleInterval = sampleInterval;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+
+    public void setWindow(int window) {
+        this.window = window;
+    }
+
+    public Duration getAcquireWarning() {
+        return acquireWarning;
+    }
+
+    public void setAcquireWarning(Duration acquireWarning) {
+        this.acquireWarning = acquireWarning;
+    }
+}
@@ -0,0 +1,49 @@
+package com.yash.usermanagement.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("read-replica")
+public class ReadReplicaConfig {
+
+    // Turned on by the read-replica environment, which also defines datasources.replica
+    private boolean enabled;
+    /** How long a principal's reads stay on the primary after one of its write requests; zero turns this off. */
+    private Duration pinAfterWrite = Duration.ofSeconds(5);
+    // Replica connection failures before reads fall back to the primary for open-duration
+    private int failureThreshold = 3;
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getPinAfterWrite() {
+        return pinAfterWrite;
+    }
+
+    public void setPinAfterWrite(Duration pinAfterWrite) {
+        this.pinAfterWrite = pinAfterWrite;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+}
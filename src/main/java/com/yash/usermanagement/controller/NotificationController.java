@@ -2,6 +2,7 @@ package com.yash.usermanagement.controller;
 
 import com.yash.usermanagement.model.Notification;
 import com.yash.usermanagement.model.NotificationPriority;
+import com.yash.usermanagement.service.NotificationQueryService;
 import com.yash.usermanagement.service.NotificationService;
 import com.yash.usermanagement.dto.BroadcastNotificationRequest;
 import io.micronaut.http.HttpResponse;
@@ -16,10 +17,16 @@ import io.micronaut.serde.annotation.Serdeable;
 import io.micronaut.scheduling.annotation.ExecuteOn;
 import com.yash.usermanagement.dto.AIGenerateRequest;
 import com.yash.usermanagement.dto.AIGenerateResponse;
+import com.yash.usermanagement.dto.MarkAllReadResponse;
+import com.yash.usermanagement.dto.UnreadCountResponse;
+import com.yash.usermanagement.dto.WebSocketTicketResponse;
 import com.yash.usermanagement.service.GeminiService;
+import com.yash.usermanagement.websocket.WebSocketTickets;
+import io.micronaut.security.authentication.Authentication;
 import jakarta.inject.Named;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
 
-import java.util.List;
 import java.util.UUID;
 
 @Controller("/api/notifications")
@@ -29,18 +36,25 @@ public class NotificationController {
     private final NotificationService emailNotificationService;
     private final NotificationService pushNotificationService;
     private final GeminiService geminiService;
+    private final NotificationQueryService notificationQueryService;
+    private final WebSocketTickets webSocketTickets;
 
     public NotificationController(
             @Named("email") NotificationService emailNotificationService,
             @Named("push") NotificationService pushNotificationService,
-            GeminiService geminiService) {
+            GeminiService geminiService,
+            NotificationQueryService notificationQueryService,
+            WebSocketTickets webSocketTickets) {
         this.emailNotificationService = emailNotificationService;
         this.pushNotificationService = pushNotificationService;
         this.geminiService = geminiService;
+        this.notificationQueryService = notificationQueryService;
+        this.webSocketTickets = webSocketTickets;
     }
 
     @Post
     @Operation(summary = "Create a new notification")
+    @ExecuteOn(TaskExecutors.BLOCKING)
     public HttpResponse<Notification> createNotification(@Body @Valid Notification notification) {
         LOG.info("Creating new notification");
         return HttpResponse.created(emailNotificationService.createNotification(notification));
@@ -48,52 +62,78 @@ public class NotificationController {
 
     @Get
     @Operation(summary = "Get all notifications")
-    public HttpResponse<List<Notification>> getAllNotifications() {
+    public Publisher<Notification> getAllNotifications() {
         LOG.info("Fetching all notifications");
-        return HttpResponse.ok(emailNotificationService.getAllNotifications());
+        return notificationQueryService.getAllNotifications();
     }
 
     @Get("/{id}")
     @Operation(summary = "Get notification by ID")
-    public HttpResponse<Notification> getNotificationById(@PathVariable String id) {
+    public Mono<HttpResponse<Notification>> getNotificationById(@PathVariable String id) {
         LOG.info("Fetching notification with id: {}", id);
-        return emailNotificationService.getNotificationById(id)
-                .map(HttpResponse::ok)
-                .orElse(HttpResponse.notFound());
+        return notificationQueryService.getNotificationById(id)
+                .<HttpResponse<Notification>>map(HttpResponse::ok)
+                .defaultIfEmpty(HttpResponse.notFound());
     }
 
     @Get("/user/{userId}")
     @Operation(summary = "Get notifications by user ID")
-    public HttpResponse<List<Notification>> getNotificationsByUserId(@PathVariable UUID userId) {
+    public Publisher<Notification> getNotificationsByUserId(@PathVariable UUID userId) {
         LOG.info("Fetching notifications for user: {}", userId);
-        return HttpResponse.ok(emailNotificationService.getNotificationsByUserId(userId));
+        return notificationQueryService.getNotificationsByUserId(userId);
     }
 
     @Get("/user/{userId}/priority/{priority}")
     @Operation(summary = "Get notifications by user ID and priority")
-    public HttpResponse<List<Notification>> getNotificationsByUserIdAndPriority(
+    public Publisher<Notification> getNotificationsByUserIdAndPriority(
             @PathVariable UUID userId,
             @PathVariable NotificationPriority priority) {
         LOG.info("Fetching {} priority notifications for user: {}", priority, userId);
-        return HttpResponse.ok(emailNotificationService.getNotificationsByUserIdAndPriority(userId, priority));
+        return notificationQueryService.getNotificationsByUserIdAndPriority(userId, priority);
+    }
+
+    @Get("/user/{userId}/unread-count")
+    @Operation(summary = "Get the number of unread notifications for a user")
+    public Mono<UnreadCountResponse> getUnreadCount(@PathVariable UUID userId) {
+        return notificationQueryService.getUnreadCount(userId)
+                .map(count -> new UnreadCountResponse(userId, count));
     }
 
     @Patch("/{id}/read")
     @Operation(summary = "Mark notification as read")
+    @ExecuteOn(TaskExecutors.BLOCKING)
     public HttpResponse<Void> markNotificationAsRead(@PathVariable String id) {
         LOG.info("Marking notification as read: {}", id);
         emailNotificationService.markNotificationAsRead(id);
         return HttpResponse.noContent();
     }
 
+    @Patch("/user/{userId}/read-all")
+    @Operation(summary = "Mark all notifications of a user as read")
+    @ExecuteOn(TaskExecutors.BLOCKING)
+    public HttpResponse<MarkAllReadResponse> markAllNotificationsAsRead(@PathVariable UUID userId) {
+        LOG.info("Marking all notifications as read for user: {}", userId);
+        int marked = emailNotificationService.markAllNotificationsAsRead(userId);
+        return HttpResponse.ok(new MarkAllReadResponse(userId, marked));
+    }
+
     @Delete("/{id}")
     @Operation(summary = "Delete notification")
+    @ExecuteOn(TaskExecutors.BLOCKING)
     public HttpResponse<Void> deleteNotification(@PathVariable String id) {
         LOG.info("Deleting notification with id: {}", id);
         emailNotificationService.deleteNotification(id);
         return HttpResponse.noContent();
     }
 
+    @Post("/ws-ticket")
+    @Operation(summary = "Issue a single-use ticket for connecting to /ws/notifications")
+    public HttpResponse<WebSocketTicketResponse> issueWebSocketTicket(Authentication authentication) {
+        UUID userId = UUID.fromString(authentication.getAttributes().get("userId").toString());
+        return HttpResponse.ok(new WebSocketTicketResponse(webSocketTickets.issue(userId),
+                webSocketTickets.ttl().toSeconds()));
+    }
+
     @Post("/ai-generate")
     @Operation(summary = "Generate message using AI")
     @ExecuteOn(TaskExecutors.BLOCKING)
@@ -119,6 +159,7 @@ public class NotificationController {
 
     @Post("/test/welcome")
     @Operation(summary = "Test welcome notification")
+    @ExecuteOn(TaskExecutors.BLOCKING)
     public void testWelcomeNotification(@Body TestNotificationRequest request) {
         emailNotificationService.sendUserCreationNotification(
                 request.getUserId(),
@@ -128,6 +169,7 @@ public class NotificationController {
 
     @Post("/test/reset-request")
     @Operation(summary = "Test password reset request notification")
+    @ExecuteOn(TaskExecutors.BLOCKING)
     public void testResetRequestNotification(@Body TestNotificationRequest request) {
         emailNotificationService.sendPasswordResetRequestNotification(
                 request.getUserId(),
@@ -136,6 +178,7 @@ public class NotificationController {
 
     @Post("/test/reset-approval")
     @Operation(summary = "Test password reset approval notification")
+    @ExecuteOn(TaskExecutors.BLOCKING)
     public void testResetApprovalNotification(@Body TestNotificationRequest request) {
         emailNotificationService.sendPasswordResetApprovalNotification(
                 request.getUserId(),
@@ -144,6 +187,7 @@ public class NotificationController {
 
     @Post("/test/password-change")
     @Operation(summary = "Test password change notification")
+    @ExecuteOn(TaskExecutors.BLOCKING)
     public void testPasswordChangeNotification(@Body TestNotificationRequest request) {
         emailNotificationService.sendPasswordChangeNotification(
                 request.getUserId(),
@@ -152,6 +196,7 @@ public class NotificationController {
 
     @Post("/test/broadcast")
     @Operation(summary = "Test broadcast notification")
+    @ExecuteOn(TaskExecutors.BLOCKING)
     public void testBroadcastNotification(@Body BroadcastNotificationRequest request) {
         emailNotificationService.broadcastNotification(
                 request.getTitle(),
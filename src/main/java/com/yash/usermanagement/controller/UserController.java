@@ -3,6 +3,8 @@ package com.yash.usermanagement.controller;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.*;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.micronaut.security.annotation.Secured;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,12 +14,16 @@ import org.slf4j.LoggerFactory;
 
 import com.yash.usermanagement.dto.CreateUserRequest;
 import com.yash.usermanagement.dto.UpdateUserRequest;
+import com.yash.usermanagement.dto.UserRecipient;
 import com.yash.usermanagement.dto.UserResponse;
+import com.yash.usermanagement.dto.UserView;
 import com.yash.usermanagement.dto.PasswordChangeRequestDTO;
 import com.yash.usermanagement.dto.PasswordChangeApprovalDTO;
+import com.yash.usermanagement.model.Address;
 import com.yash.usermanagement.model.User;
 import com.yash.usermanagement.service.UserService;
 import com.yash.usermanagement.service.NotificationService;
+import com.yash.usermanagement.service.NotificationDispatcher;
 import com.yash.usermanagement.exception.ResourceNotFoundException;
 import com.yash.usermanagement.exception.ValidationException;
 import com.yash.usermanagement.exception.DuplicateResourceException;
@@ -32,6 +38,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Controller("/api/users")
+@ExecuteOn(TaskExecutors.BLOCKING)
 @Tag(name = "User Management")
 public class UserController {
 
@@ -40,15 +47,18 @@ public class UserController {
     private final NotificationService emailNotificationService;
     private final NotificationService pushNotificationService;
     private final PasswordChangeRequestRepository passwordChangeRequestRepository;
+    private final NotificationDispatcher notificationDispatcher;
 
     public UserController(UserService userService,
             @Named("email") NotificationService emailNotificationService,
             @Named("push") NotificationService pushNotificationService,
-            PasswordChangeRequestRepository passwordChangeRequestRepository) {
+            PasswordChangeRequestRepository passwordChangeRequestRepository,
+            NotificationDispatcher notificationDispatcher) {
         this.userService = userService;
         this.emailNotificationService = emailNotificationService;
         this.pushNotificationService = pushNotificationService;
         this.passwordChangeRequestRepository = passwordChangeRequestRepository;
+        this.notificationDispatcher = notificationDispatcher;
     }
 
     @Post
@@ -61,10 +71,11 @@ public class UserController {
             User createdUser = userService.createUser(user);
 
             // Send welcome notification and email
-            emailNotificationService.sendUserCreationNotification(
-                    createdUser.getId(),
-                    createdUser.getEmail(),
-                    request.getPassword());
+            notificationDispatcher.fireAndForget("user-creation",
+                    () -> emailNotificationService.sendUserCreationNotification(
+                            createdUser.getId(),
+                            createdUser.getEmail(),
+                            request.getPassword()));
 
             return HttpResponse.created(convertToUserResponse(createdUser));
         } catch (DuplicateResourceException e) {
@@ -81,9 +92,9 @@ public class UserController {
     @Secured("ADMIN")
     public HttpResponse<List<UserResponse>> getAllUsers() {
         LOG.info("Fetching all users");
-        List<User> users = userService.getAllUsers();
+        List<UserView> users = userService.listUsers();
         List<UserResponse> userResponses = users.stream()
-                .map(this::convertToUserResponse)
+                .map(UserController::convertToUserResponse)
                 .collect(Collectors.toList());
         return HttpResponse.ok(userResponses);
     }
@@ -94,7 +105,7 @@ public class UserController {
     public HttpResponse<UserResponse> getUserById(@PathVariable UUID id) {
         LOG.info("Fetching user with id: {}", id);
         try {
-            User user = userService.getUserById(id);
+            UserView user = userService.getUserViewById(id);
             return HttpResponse.ok(convertToUserResponse(user));
         } catch (ResourceNotFoundException e) {
             LOG.warn("User not found with id: {}", id);
@@ -124,14 +135,12 @@ public class UserController {
         try {
             User user = userService.getUserById(id); // Get user before deletion
 
-            // Send deletion notification
-            try {
-                emailNotificationService.sendAccountDeletionNotification(user.getId(), user.getEmail());
-            } catch (Exception e) {
-                LOG.error("Failed to send deletion notification email: {}", e.getMessage());
-            }
             userService.deleteUser(id);
 
+            // Send deletion notification
+            notificationDispatcher.fireAndForget("account-deletion",
+                    () -> emailNotificationService.sendAccountDeletionNotification(user.getId(), user.getEmail()));
+
             return HttpResponse.ok(Collections.singletonMap("success", true));
         } catch (ResourceNotFoundException e) {
             LOG.warn("User not found for deletion with id: {}", id);
@@ -145,8 +154,8 @@ public class UserController {
     public HttpResponse<UserResponse> getUserByEmail(@PathVariable String email) {
         LOG.info("Finding user by email: {}", email);
         try {
-            return userService.findByEmail(email)
-                    .map(this::convertToUserResponse)
+            return userService.findUserViewByEmail(email)
+                    .map(UserController::convertToUserResponse)
                     .map(HttpResponse::ok)
                     .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
         } catch (ValidationException e) {
@@ -179,11 +188,8 @@ public class UserController {
             passwordChangeRequestRepository.save(passwordChangeRequest);
 
             // Send notification to admin
-            try {
-                emailNotificationService.sendPasswordResetRequestNotification(user.getId(), user.getEmail());
-            } catch (Exception e) {
-                LOG.error("Failed to send password reset request email: {}", e.getMessage());
-            }
+            notificationDispatcher.fireAndForget("password-reset-request",
+                    () -> emailNotificationService.sendPasswordResetRequestNotification(user.getId(), user.getEmail()));
 
             return HttpResponse.accepted();
         } catch (ResourceNotFoundException e) {
@@ -226,11 +232,8 @@ public class UserController {
                 passwordChangeRequestRepository.update(passwordChangeRequest);
 
                 // Send approval notification
-                try {
-                    emailNotificationService.sendPasswordResetApprovalNotification(user.getId(), user.getEmail());
-                } catch (Exception e) {
-                    LOG.error("Failed to send password reset approval email: {}", e.getMessage());
-                }
+                notificationDispatcher.fireAndForget("password-reset-approval",
+                        () -> emailNotificationService.sendPasswordResetApprovalNotification(user.getId(), user.getEmail()));
             } else {
                 // Reject password change
                 userService.rejectPasswordChange(id, request.getAdminId());
@@ -242,11 +245,8 @@ public class UserController {
                 passwordChangeRequestRepository.update(passwordChangeRequest);
 
                 // Send rejection notification
-                try {
-                    emailNotificationService.sendPasswordChangeRejectionNotification(user.getId(), user.getEmail());
-                } catch (Exception e) {
-                    LOG.error("Failed to send password change rejection email: {}", e.getMessage());
-                }
+                notificationDispatcher.fireAndForget("password-change-rejection",
+                        () -> emailNotificationService.sendPasswordChangeRejectionNotification(user.getId(), user.getEmail()));
             }
 
             return HttpResponse.ok();
@@ -261,7 +261,12 @@ public class UserController {
     @Operation(summary = "Get all pending password change requests")
     public HttpResponse<List<Map<String, Object>>> getAllPendingPasswordChangeRequests() {
         List<PasswordChangeRequest> pendingRequests = userService.getPendingPasswordChangeRequests();
-        // For each request, fetch user info for display
+        // User info for display, fetched in one query for all requests
+        Map<UUID, UserRecipient> users = userService.getRecipients(pendingRequests.stream()
+                .map(PasswordChangeRequest::getUserId)
+                .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(UserRecipient::id, user -> user));
         List<Map<String, Object>> result = pendingRequests.stream().map(req -> {
             Map<String, Object> map = new HashMap<>();
             map.put("id", req.getId());
@@ -271,13 +276,12 @@ public class UserController {
             map.put("adminId", req.getAdminId());
             map.put("createdAt", req.getCreatedAt());
             map.put("updatedAt", req.getUpdatedAt());
-            // Fetch user info
-            try {
-                User user = userService.getUserById(req.getUserId());
-                map.put("userFirstName", user.getFirstName());
-                map.put("userLastName", user.getLastName());
-                map.put("userEmail", user.getEmail());
-            } catch (Exception e) {
+            UserRecipient user = users.get(req.getUserId());
+            if (user != null) {
+                map.put("userFirstName", user.firstName());
+                map.put("userLastName", user.lastName());
+                map.put("userEmail", user.email());
+            } else {
                 // User might have been deleted
                 map.put("userFirstName", "");
                 map.put("userLastName", "");
@@ -305,12 +309,10 @@ public class UserController {
             req.setUpdatedAt(LocalDateTime.now());
             passwordChangeRequestRepository.update(req);
             // Send approval notification
-            try {
+            notificationDispatcher.fireAndForget("password-reset-approval", () -> {
                 User user = userService.getUserById(req.getUserId());
                 emailNotificationService.sendPasswordResetApprovalNotification(user.getId(), user.getEmail());
-            } catch (Exception e) {
-                LOG.error("Failed to send password reset approval notification: {}", e.getMessage());
-            }
+            });
         } else {
             // Reject: set status, set adminId, set updatedAt
             req.setStatus(PasswordChangeStatus.REJECTED);
@@ -318,12 +320,10 @@ public class UserController {
             req.setUpdatedAt(LocalDateTime.now());
             passwordChangeRequestRepository.update(req);
             // Send rejection notification
-            try {
+            notificationDispatcher.fireAndForget("password-change-rejection", () -> {
                 User user = userService.getUserById(req.getUserId());
                 emailNotificationService.sendPasswordChangeRejectionNotification(user.getId(), user.getEmail());
-            } catch (Exception e) {
-                LOG.error("Failed to send password change rejection notification: {}", e.getMessage());
-            }
+            });
         }
         return HttpResponse.ok();
     }
@@ -356,7 +356,7 @@ public class UserController {
         return user;
     }
 
-    private UserResponse convertToUserResponse(User user) {
+    static UserResponse convertToUserResponse(User user) {
         UserResponse response = new UserResponse();
         response.setId(user.getId());
         response.setFirstName(user.getFirstName());
@@ -369,4 +369,29 @@ public class UserController {
         response.setRole(user.getRole());
         return response;
     }
+
+    static UserResponse convertToUserResponse(UserView user) {
+        UserResponse response = new UserResponse();
+        response.setId(user.id());
+        response.setFirstName(user.firstName());
+        response.setLastName(user.lastName());
+        response.setEmail(user.email());
+        response.setDateOfBirth(user.dateOfBirth());
+        response.setPhoneNumber(user.phoneNumber());
+        response.setGender(user.gender());
+        response.setRole(user.role());
+        if (user.addressId() != null) {
+            Address address = new Address();
+            address.setId(user.addressId());
+            address.setStreetAddress(user.streetAddress());
+            address.setCity(user.city());
+            address.setState(user.state());
+            address.setPostalCode(user.postalCode());
+            address.setCountry(user.country());
+            address.setAddressType(user.addressType());
+            address.setDefaultAddress(Boolean.TRUE.equals(user.defaultAddress()));
+            response.setAddress(address);
+        }
+        return response;
+    }
 }
\ No newline at end of file
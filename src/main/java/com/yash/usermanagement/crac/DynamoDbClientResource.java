@@ -0,0 +1,37 @@
+package com.yash.usermanagement.crac;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.crac.OrderedResource;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import jakarta.inject.Singleton;
+import org.crac.Context;
+import org.crac.Resource;
+
+import java.util.Map;
+
+/**
+ * Disposes the {@code @Refreshable("dynamodb")} clients before a checkpoint, which closes their pooled
+ * connections. The proxies build new clients on the first call after restore.
+ */
+@Singleton
+@Requires(property = "crac.enabled", notEquals = StringUtils.FALSE)
+public class DynamoDbClientResource implements OrderedResource {
+
+    private final ApplicationEventPublisher<RefreshEvent> refreshPublisher;
+
+    public DynamoDbClientResource(ApplicationEventPublisher<RefreshEvent> refreshPublisher) {
+        this.refreshPublisher = refreshPublisher;
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        refreshPublisher.publishEvent(new RefreshEvent(Map.of("dynamodb", "checkpoint")));
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        // Clients are recreated lazily
+    }
+}
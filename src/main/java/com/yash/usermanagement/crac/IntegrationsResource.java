@@ -0,0 +1,37 @@
+package com.yash.usermanagement.crac;
+
+import com.yash.usermanagement.config.FirebaseMessagingProvider;
+import com.yash.usermanagement.health.IntegrationWarmUp;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.crac.OrderedResource;
+import jakarta.inject.Singleton;
+import org.crac.Context;
+import org.crac.Resource;
+
+/**
+ * Deletes the Firebase app before a checkpoint and runs the integration warm-up again after restore, so a
+ * restored instance reports readiness only once Firebase and SendGrid are reachable from where it runs.
+ */
+@Singleton
+@Requires(property = "crac.enabled", notEquals = StringUtils.FALSE)
+public class IntegrationsResource implements OrderedResource {
+
+    private final FirebaseMessagingProvider firebase;
+    private final IntegrationWarmUp warmUp;
+
+    public IntegrationsResource(FirebaseMessagingProvider firebase, IntegrationWarmUp warmUp) {
+        this.firebase = firebase;
+        this.warmUp = warmUp;
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        firebase.reset();
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        warmUp.warmUp();
+    }
+}
@@ -0,0 +1,35 @@
+package com.yash.usermanagement.crac;
+
+import com.yash.usermanagement.event.PostgresNotificationBus;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.crac.OrderedResource;
+import jakarta.inject.Singleton;
+import org.crac.Context;
+import org.crac.Resource;
+
+/**
+ * Closes the LISTEN connection of the Postgres notification bus before a checkpoint and reconnects after
+ * restore. It is opened outside the Hikari pool, so the pool resource does not cover it.
+ */
+@Singleton
+@Requires(property = "crac.enabled", notEquals = StringUtils.FALSE)
+@Requires(bean = PostgresNotificationBus.class)
+public class NotificationBusResource implements OrderedResource {
+
+    private final PostgresNotificationBus bus;
+
+    public NotificationBusResource(PostgresNotificationBus bus) {
+        this.bus = bus;
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) throws InterruptedException {
+        bus.suspend();
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        bus.resume();
+    }
+}
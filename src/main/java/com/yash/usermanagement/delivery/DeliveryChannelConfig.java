@@ -0,0 +1,91 @@
+package com.yash.usermanagement.delivery;
+
+import com.yash.usermanagement.model.NotificationPriority;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-channel delivery settings, bound from {@code micronaut.notifications.delivery.<channel>}.
+ * One {@link DeliveryScheduler} is created for every configured channel.
+ */
+@EachProperty("micronaut.notifications.delivery")
+public class DeliveryChannelConfig {
+
+    private final String name;
+    private int workers = 4;
+    // Sustained sends per second and the burst allowed on top, sized to the provider's quota
+    private double permitsPerSecond = 50;
+    private int burst = 100;
+    private int queueCapacity = 10000;
+    // How long a producer waits for room in a full priority queue before the delivery is rejected
+    private Duration offerTimeout = Duration.ofSeconds(30);
+    private Map<String, Integer> weights = new HashMap<>(Map.of(
+            "urgent", 8,
+            "high", 4,
+            "medium", 2,
+            "low", 1));
+
+    public DeliveryChannelConfig(@Parameter String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public void setPermitsPerSecond(double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getOfferTimeout() {
+        return offerTimeout;
+    }
+
+    public void setOfferTimeout(Duration offerTimeout) {
+        this.offerTimeout = offerTimeout;
+    }
+
+    public Map<String, Integer> getWeights() {
+        return weights;
+    }
+
+    public void setWeights(Map<String, Integer> weights) {
+        this.weights.putAll(weights);
+    }
+
+    public int weightOf(NotificationPriority priority) {
+        return Math.max(1, weights.getOrDefault(priority.name().toLowerCase(), 1));
+    }
+}
@@ -0,0 +1,168 @@
+package com.yash.usermanagement.delivery;
+
+import com.yash.usermanagement.model.NotificationPriority;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sends outbound messages for one channel (email, push) in priority order. Each priority has its own
+ * bounded queue, workers pick the next message by weighted fair scheduling and every send first takes a
+ * token from the channel's rate limiter, so a large LOW broadcast cannot delay a password-reset email
+ * by more than a few slots.
+ */
+public class DeliveryScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeliveryScheduler.class);
+
+    private final String channel;
+    private final DeliveryChannelConfig config;
+    private final WeightedPriorityQueue<Delivery> queue;
+    private final TokenBucket rateLimiter;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final List<Thread> workers = new ArrayList<>();
+    private final Map<NotificationPriority, Timer> queueWait = new EnumMap<>(NotificationPriority.class);
+    private final MeterRegistry meterRegistry;
+    private volatile boolean running = true;
+
+    public DeliveryScheduler(DeliveryChannelConfig config, MeterRegistry meterRegistry) {
+        this.channel = config.getName();
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.queue = new WeightedPriorityQueue<>(config.getQueueCapacity(), config::weightOf);
+        this.rateLimiter = new TokenBucket(config.getPermitsPerSecond(), config.getBurst());
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            String tag = priority.name().toLowerCase();
+            queueWait.put(priority, Timer.builder("notifications.delivery.queue.wait")
+                    .tag("channel", channel)
+                    .tag("priority", tag)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+            Gauge.builder("notifications.delivery.queue.depth", this, scheduler -> scheduler.depth(priority))
+                    .tag("channel", channel)
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+        }
+        for (int i = 1; i <= Math.max(1, config.getWorkers()); i++) {
+            Thread worker = new Thread(this::work, "delivery-" + channel + "-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * Queues a send. If the priority's queue is full the caller waits up to the configured offer timeout
+     * for room; the future fails with {@link RejectedExecutionException} if none frees up.
+     */
+    public CompletableFuture<Void> submit(NotificationPriority priority, String name, Runnable send) {
+        NotificationPriority effective = priority != null ? priority : NotificationPriority.MEDIUM;
+        Delivery delivery = new Delivery(effective, name, send, System.nanoTime(), new CompletableFuture<>());
+        long remaining = config.getOfferTimeout().toNanos();
+        lock.lock();
+        try {
+            while (!queue.offer(effective, delivery)) {
+                if (remaining <= 0 || !running) {
+                    meterRegistry.counter("notifications.delivery.rejected",
+                            "channel", channel, "priority", effective.name().toLowerCase()).increment();
+                    LOG.error("{} delivery queue for {} priority is full, rejected {}", channel, effective, name);
+                    delivery.result().completeExceptionally(
+                            new RejectedExecutionException(channel + " delivery queue is full"));
+                    return delivery.result();
+                }
+                remaining = notFull.awaitNanos(remaining);
+            }
+            notEmpty.signal();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            delivery.result().completeExceptionally(e);
+        } finally {
+            lock.unlock();
+        }
+        return delivery.result();
+    }
+
+    private void work() {
+        while (running) {
+            Delivery delivery;
+            lock.lock();
+            try {
+                while (queue.isEmpty()) {
+                    if (!running) {
+                        return;
+                    }
+                    notEmpty.await();
+                }
+                delivery = queue.poll();
+                notFull.signalAll();
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                rateLimiter.acquire();
+            } catch (InterruptedException e) {
+                delivery.result().completeExceptionally(e);
+                return;
+            }
+            queueWait.get(delivery.priority()).record(System.nanoTime() - delivery.enqueuedAt(), TimeUnit.NANOSECONDS);
+            try {
+                delivery.send().run();
+                delivery.result().complete(null);
+            } catch (Throwable e) {
+                // Errors too: an escaping throwable would end this worker and shrink the channel for good
+                LOG.error("{} delivery {} failed: {}", channel, delivery.name(), e.getMessage(), e);
+                delivery.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    int depth(NotificationPriority priority) {
+        lock.lock();
+        try {
+            return queue.size(priority);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void shutdown() throws InterruptedException {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        int dropped = 0;
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            dropped += depth(priority);
+        }
+        if (dropped > 0) {
+            LOG.warn("{} delivery scheduler stopped with {} unsent message(s)", channel, dropped);
+        }
+    }
+
+    private record Delivery(NotificationPriority priority, String name, Runnable send, long enqueuedAt,
+                            CompletableFuture<Void> result) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.yash.usermanagement.delivery;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Factory;
+
+@Factory
+public class DeliverySchedulerFactory {
+
+    @EachBean(DeliveryChannelConfig.class)
+    @Bean(preDestroy = "shutdown")
+    DeliveryScheduler deliveryScheduler(DeliveryChannelConfig config, MeterRegistry meterRegistry) {
+        return new DeliveryScheduler(config, meterRegistry);
+    }
+}
@@ -0,0 +1,88 @@
+package com.yash.usermanagement.delivery;
+
+import com.yash.usermanagement.config.NotificationCoalescingConfig;
+import com.yash.usermanagement.util.Ulid;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Singleton;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Collapses bursts of the same notification for the same user. The idempotency key is
+ * type + userId + time bucket of the configured window.
+ * <p>
+ * The first claim in a bucket on this node wins; later ones are dropped before touching DynamoDB or
+ * SendGrid. The winner gets a notification id derived from the key, so when two nodes both claim the
+ * same bucket the conditional put in {@code NotificationRepository.saveIfAbsent} lets only one through.
+ */
+@Singleton
+public class NotificationCoalescer {
+
+    private final NotificationCoalescingConfig config;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, Long> claimed = new ConcurrentHashMap<>();
+    private final AtomicLong sweptBucket = new AtomicLong();
+
+    public NotificationCoalescer(NotificationCoalescingConfig config, MeterRegistry meterRegistry) {
+        this(config, meterRegistry, System::currentTimeMillis);
+    }
+
+    NotificationCoalescer(NotificationCoalescingConfig config, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the id to store the notification under, or empty if an equivalent one was already
+     * claimed in the current window
+     */
+    public Optional<String> claim(String type, UUID userId) {
+        long now = clock.getAsLong();
+        if (!config.isEnabled()) {
+            return Optional.of(Ulid.at(now));
+        }
+        long windowMillis = Math.max(1, config.getWindow().toMillis());
+        long bucket = now / windowMillis;
+        sweep(bucket);
+        String key = type + ":" + userId + ":" + bucket;
+        if (claimed.putIfAbsent(key, bucket) != null) {
+            duplicate(type);
+            return Optional.empty();
+        }
+        UUID entropy = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+        return Optional.of(Ulid.at(bucket * windowMillis, entropy));
+    }
+
+    /**
+     * Gives up the current window's claim after the write it guarded failed, so a retry is not
+     * mistaken for a duplicate.
+     */
+    public void release(String type, UUID userId) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        long bucket = clock.getAsLong() / Math.max(1, config.getWindow().toMillis());
+        claimed.remove(type + ":" + userId + ":" + bucket, bucket);
+    }
+
+    /**
+     * Records a duplicate that was only detected at write time, on another node.
+     */
+    public void duplicate(String type) {
+        meterRegistry.counter("notifications.coalesced", "type", type).increment();
+    }
+
+    private void sweep(long bucket) {
+        long previous = sweptBucket.get();
+        if (bucket > previous && sweptBucket.compareAndSet(previous, bucket)) {
+            claimed.values().removeIf(claimedBucket -> claimedBucket < bucket);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.yash.usermanagement.delivery;
+
+import com.yash.usermanagement.config.NotificationDigestConfig;
+import com.yash.usermanagement.exception.DependencyUnavailableException;
+import com.yash.usermanagement.exception.TransientDependencyException;
+import com.yash.usermanagement.model.DigestItem;
+import com.yash.usermanagement.model.NotificationPriority;
+import com.yash.usermanagement.service.impl.SendGridEmailService;
+import com.yash.usermanagement.template.EmailContent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Once per digest interval, sends every user with buffered notifications a single summary email.
+ * Only users with pending items are read, and each batch of users goes out as one SendGrid request.
+ */
+@Singleton
+public class NotificationDigestJob {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationDigestJob.class);
+    private static final String SUBJECT = "Your notification digest";
+    // Headroom under SendGrid's limit for the JSON encoding of the substitution values
+    private static final int MAX_DIGEST_BYTES = SendGridEmailService.MAX_SUBSTITUTION_BYTES - 1000;
+
+    private final NotificationDigestConfig config;
+    private final NotificationDigestService digestService;
+    private final SendGridEmailService sendGridEmailService;
+    private final DeliveryScheduler emailDelivery;
+    private final MeterRegistry meterRegistry;
+
+    public NotificationDigestJob(NotificationDigestConfig config,
+                                 NotificationDigestService digestService,
+                                 SendGridEmailService sendGridEmailService,
+                                 @Named("email") DeliveryScheduler emailDelivery,
+                                 MeterRegistry meterRegistry) {
+        this.config = config;
+        this.digestService = digestService;
+        this.sendGridEmailService = sendGridEmailService;
+        this.emailDelivery = emailDelivery;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelay = "${micronaut.notifications.digest.interval:1h}",
+            initialDelay = "${micronaut.notifications.digest.interval:1h}")
+    void sendDigests() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now();
+        // Set by the first transient failure: while SendGrid is down, further batches would only be
+        // claimed, fail and be restored again
+        AtomicBoolean unavailable = new AtomicBoolean();
+        int users = 0;
+        Map<UUID, List<DigestItem>> batch;
+        while (!unavailable.get() && !(batch = digestService.claimBatch(cutoff)).isEmpty()) {
+            users += batch.size();
+            send(batch, cutoff, unavailable);
+        }
+        if (unavailable.get()) {
+            LOG.warn("Stopped the digest run after a transient failure; remaining digests wait for the next run");
+        }
+        if (users > 0) {
+            LOG.info("Queued digests for {} user(s)", users);
+        }
+    }
+
+    private void send(Map<UUID, List<DigestItem>> batch, LocalDateTime cutoff, AtomicBoolean unavailable) {
+        Map<String, EmailContent> contentByRecipient = new LinkedHashMap<>();
+        batch.values().forEach(items -> contentByRecipient.put(items.get(items.size() - 1).getEmail(),
+                digestService.render(items, MAX_DIGEST_BYTES)));
+        int items = batch.values().stream().mapToInt(List::size).sum();
+
+        emailDelivery.submit(NotificationPriority.LOW, "digest", () -> {
+            if (sendGridEmailService.sendBatchAsync(SUBJECT, contentByRecipient).join()) {
+                meterRegistry.counter("notifications.digest.sent").increment(contentByRecipient.size());
+                meterRegistry.counter("notifications.digest.items").increment(items);
+            } else if (batch.size() > 1) {
+                // One bad address or oversized body rejects the whole request; find it by sending per user
+                LOG.warn("SendGrid rejected the digest batch for {} user(s), sending it per user", batch.size());
+                batch.forEach((userId, userItems) -> send(Map.of(userId, userItems), cutoff, unavailable));
+            } else {
+                drop(batch, items, "rejected by SendGrid");
+            }
+        }).exceptionally(e -> {
+            Throwable cause = e;
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof TransientDependencyException || cause instanceof DependencyUnavailableException
+                    || cause instanceof RejectedExecutionException) {
+                LOG.warn("Digest batch for {} user(s) failed, keeping it for the next run: {}", batch.size(),
+                        cause.getMessage());
+                unavailable.set(true);
+                digestService.restore(batch, cutoff);
+            } else {
+                drop(batch, items, cause.toString());
+            }
+            return null;
+        });
+    }
+
+    // Restoring a batch that can never be sent would make it fail first on every run
+    private void drop(Map<UUID, List<DigestItem>> batch, int items, String reason) {
+        meterRegistry.counter("notifications.digest.dropped").increment(batch.size());
+        LOG.error("Dropping the digest for {} user(s) with {} item(s): {}", batch.size(), items, reason);
+    }
+}
@@ -0,0 +1,137 @@
+package com.yash.usermanagement.delivery;
+
+import com.yash.usermanagement.config.NotificationDigestConfig;
+import com.yash.usermanagement.dto.UserRecipient;
+import com.yash.usermanagement.model.DigestItem;
+import com.yash.usermanagement.model.Notification;
+import com.yash.usermanagement.repository.DigestItemRepository;
+import com.yash.usermanagement.template.EmailContent;
+import com.yash.usermanagement.template.EmailTemplateEngine;
+import com.yash.usermanagement.template.EmailTemplateName;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Buffers LOW and MEDIUM notifications in Postgres and hands them out per user for the digest job.
+ */
+@Singleton
+public class NotificationDigestService {
+
+    private static final long DIGEST_LOCK_KEY = 0x6469676573740001L;
+    private static final int MAX_MESSAGE_LENGTH = 200;
+
+    private final DigestItemRepository digestItemRepository;
+    private final NotificationDigestConfig config;
+    private final EmailTemplateEngine emailTemplateEngine;
+
+    public NotificationDigestService(DigestItemRepository digestItemRepository,
+                                     NotificationDigestConfig config,
+                                     EmailTemplateEngine emailTemplateEngine) {
+        this.digestItemRepository = digestItemRepository;
+        this.config = config;
+        this.emailTemplateEngine = emailTemplateEngine;
+    }
+
+    public DigestItem toDigestItem(Notification notification, UserRecipient user) {
+        DigestItem item = new DigestItem();
+        item.setUserId(user.id());
+        item.setEmail(user.email());
+        item.setFirstName(user.firstName());
+        item.setTitle(notification.getTitle());
+        item.setMessage(notification.getMessage());
+        item.setPriority(notification.getPriority());
+        item.setCreatedAt(notification.getCreatedAt());
+        return item;
+    }
+
+    public void buffer(List<DigestItem> items) {
+        if (!items.isEmpty()) {
+            digestItemRepository.saveAll(items);
+        }
+    }
+
+    /**
+     * Takes the pending items of the next batch of users, oldest first, and deletes them in the same
+     * transaction. Returns nothing while another node is claiming.
+     */
+    @Transactional
+    public Map<UUID, List<DigestItem>> claimBatch(LocalDateTime cutoff) {
+        if (!digestItemRepository.tryAdvisoryXactLock(DIGEST_LOCK_KEY)) {
+            return Map.of();
+        }
+        List<UUID> userIds = digestItemRepository.findPendingUserIds(cutoff, config.getUsersPerBatch());
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        List<DigestItem> items = digestItemRepository
+                .findByUserIdInAndCreatedAtLessThanEqualsOrderByCreatedAt(userIds, cutoff);
+        digestItemRepository.deleteByIdIn(items.stream().map(DigestItem::getId).toList());
+
+        Map<UUID, List<DigestItem>> byUser = new LinkedHashMap<>();
+        for (DigestItem item : items) {
+            byUser.computeIfAbsent(item.getUserId(), userId -> new ArrayList<>()).add(item);
+        }
+        return byUser;
+    }
+
+    /**
+     * Puts a claimed batch back so the next run retries it. The items are moved to just after
+     * {@code cutoff}, keeping their order, so a run claiming up to {@code cutoff} does not take them again.
+     */
+    public void restore(Map<UUID, List<DigestItem>> batch, LocalDateTime cutoff) {
+        LocalDateTime oldest = batch.values().stream()
+                .flatMap(List::stream)
+                .map(DigestItem::getCreatedAt)
+                .min(LocalDateTime::compareTo)
+                .orElse(cutoff);
+        Duration shift = Duration.between(oldest, cutoff).plus(Duration.ofNanos(1000));
+        batch.values().forEach(items -> {
+            items.forEach(item -> item.setCreatedAt(item.getCreatedAt().plus(shift)));
+            digestItemRepository.saveAll(items);
+        });
+    }
+
+    /**
+     * Renders one user's digest, listing at most the configured number of items and dropping more if
+     * needed to fit SendGrid's per-recipient substitution limit.
+     */
+    public EmailContent render(List<DigestItem> items, int maxBytes) {
+        DigestItem latest = items.get(items.size() - 1);
+        EmailContent header = emailTemplateEngine.render(EmailTemplateName.DIGEST, Map.of(
+                "firstName", String.valueOf(latest.getFirstName()),
+                "count", String.valueOf(items.size())));
+        List<EmailContent> entries = new ArrayList<>();
+        for (DigestItem item : items.subList(0, Math.min(items.size(), config.getMaxItemsPerDigest()))) {
+            entries.add(emailTemplateEngine.render(EmailTemplateName.DIGEST_ITEM, Map.of(
+                    "title", String.valueOf(item.getTitle()),
+                    "message", abbreviate(String.valueOf(item.getMessage())))));
+        }
+        while (true) {
+            StringBuilder plainText = new StringBuilder(header.plainText());
+            StringBuilder html = new StringBuilder(header.html());
+            for (EmailContent entry : entries) {
+                plainText.append(entry.plainText());
+                html.append(entry.html());
+            }
+            int size = plainText.toString().getBytes(StandardCharsets.UTF_8).length
+                    + html.toString().getBytes(StandardCharsets.UTF_8).length;
+            if (size <= maxBytes || entries.isEmpty()) {
+                return new EmailContent(plainText.toString(), html.toString());
+            }
+            entries.remove(entries.size() - 1);
+        }
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= MAX_MESSAGE_LENGTH ? message : message.substring(0, MAX_MESSAGE_LENGTH - 3) + "...";
+    }
+}
@@ -0,0 +1,75 @@
+package com.yash.usermanagement.delivery;
+
+import com.yash.usermanagement.model.NotificationPriority;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * One bounded FIFO per priority, served by smooth weighted round robin: with weights 8/4/2/1 a backlog
+ * of LOW items gets one slot in fifteen while URGENT work is waiting, and every slot once it is not.
+ * Not thread-safe; {@link DeliveryScheduler} guards it.
+ */
+public class WeightedPriorityQueue<T> {
+
+    private final Map<NotificationPriority, ArrayDeque<T>> queues = new EnumMap<>(NotificationPriority.class);
+    private final Map<NotificationPriority, Integer> weights = new EnumMap<>(NotificationPriority.class);
+    private final Map<NotificationPriority, Integer> current = new EnumMap<>(NotificationPriority.class);
+    private final int capacity;
+
+    public WeightedPriorityQueue(int capacity, ToIntFunction<NotificationPriority> weight) {
+        this.capacity = Math.max(1, capacity);
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+            weights.put(priority, Math.max(1, weight.applyAsInt(priority)));
+            current.put(priority, 0);
+        }
+    }
+
+    public boolean offer(NotificationPriority priority, T item) {
+        ArrayDeque<T> queue = queues.get(priority);
+        if (queue.size() >= capacity) {
+            return false;
+        }
+        queue.addLast(item);
+        return true;
+    }
+
+    public T poll() {
+        NotificationPriority selected = null;
+        int total = 0;
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            if (queues.get(priority).isEmpty()) {
+                continue;
+            }
+            int weight = weights.get(priority);
+            total += weight;
+            current.merge(priority, weight, Integer::sum);
+            if (selected == null || current.get(priority) > current.get(selected)
+                    || (current.get(priority).equals(current.get(selected)) && priority.compareTo(selected) > 0)) {
+                selected = priority;
+            }
+        }
+        if (selected == null) {
+            return null;
+        }
+        current.merge(selected, -total, Integer::sum);
+        ArrayDeque<T> queue = queues.get(selected);
+        T item = queue.pollFirst();
+        if (queue.isEmpty()) {
+            // An idle queue must not bank credit and then starve the others when it refills
+            current.put(selected, 0);
+        }
+        return item;
+    }
+
+    public boolean isEmpty() {
+        return queues.values().stream().allMatch(ArrayDeque::isEmpty);
+    }
+
+    public int size(NotificationPriority priority) {
+        return queues.get(priority).size();
+    }
+}
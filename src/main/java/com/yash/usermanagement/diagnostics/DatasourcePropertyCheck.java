@@ -0,0 +1,69 @@
+package com.yash.usermanagement.diagnostics;
+
+import com.zaxxer.hikari.HikariConfig;
+import io.micronaut.context.env.Environment;
+import io.micronaut.core.naming.conventions.StringConvention;
+import io.micronaut.core.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Finds keys under {@code datasources.<name>} that neither Hikari nor Micronaut reads, such as the
+ * Commons DBCP style {@code testOnBorrow} or {@code validationQuery}, and settings that Hikari overrides
+ * or ignores. Unknown keys are otherwise dropped without a warning.
+ */
+final class DatasourcePropertyCheck {
+
+    // Read by Micronaut SQL, Micronaut Data or Flyway rather than bound to HikariConfig
+    private static final Set<String> MICRONAUT_KEYS = Set.of("url", "username", "password", "driverclassname",
+            "dialect", "schemagenerate", "schemageneratenames", "packages", "dbtype", "jndiname", "name",
+            "enabled", "datasourceproperties", "transactionperoperation", "allowconnectionperoperation");
+    private static final Set<String> HIKARI_KEYS = hikariKeys();
+
+    private DatasourcePropertyCheck() {
+    }
+
+    static List<String> check(Environment environment, String datasource, HikariConfig effective) {
+        List<String> warnings = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String key : environment.getProperties("datasources." + datasource, StringConvention.RAW).keySet()) {
+            String root = key.contains(".") ? key.substring(0, key.indexOf('.')) : key;
+            String normalized = normalize(root);
+            if (seen.add(normalized) && !MICRONAUT_KEYS.contains(normalized) && !HIKARI_KEYS.contains(normalized)) {
+                warnings.add("datasources." + datasource + "." + root + " is not a Hikari or Micronaut setting"
+                        + " and is ignored");
+            }
+        }
+        if (effective.getMinimumIdle() > effective.getMaximumPoolSize()) {
+            warnings.add("minimumIdle (" + effective.getMinimumIdle() + ") is above maximumPoolSize ("
+                    + effective.getMaximumPoolSize() + ")");
+        }
+        if (effective.getMaxLifetime() > 0 && effective.getIdleTimeout() >= effective.getMaxLifetime()) {
+            warnings.add("idleTimeout is not below maxLifetime, so idle connections are only retired by maxLifetime");
+        }
+        if (effective.getKeepaliveTime() > 0 && effective.getMaxLifetime() > 0
+                && effective.getKeepaliveTime() >= effective.getMaxLifetime()) {
+            warnings.add("keepaliveTime is not below maxLifetime and never triggers");
+        }
+        return warnings;
+    }
+
+    private static Set<String> hikariKeys() {
+        Set<String> keys = new HashSet<>();
+        for (Method method : HikariConfig.class.getMethods()) {
+            if (method.getName().startsWith("set") && method.getParameterCount() == 1) {
+                keys.add(normalize(method.getName().substring(3)));
+            }
+        }
+        return keys;
+    }
+
+    private static String normalize(String key) {
+        return StringUtils.hasText(key) ? key.replace("-", "").replace("_", "").toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -0,0 +1,25 @@
+package com.yash.usermanagement.diagnostics;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+
+/**
+ * {@code GET /pool}: connection pool saturation, blocking executor backlog, a sizing verdict and
+ * datasource configuration warnings. Sensitive, so callers must be authenticated.
+ */
+@Endpoint(id = "pool", defaultSensitive = true)
+@Requires(bean = PoolSaturationMonitor.class)
+public class PoolDiagnosticsEndpoint {
+
+    private final PoolSaturationMonitor monitor;
+
+    public PoolDiagnosticsEndpoint(PoolSaturationMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Read
+    public PoolDiagnosticsReport report() {
+        return monitor.report();
+    }
+}
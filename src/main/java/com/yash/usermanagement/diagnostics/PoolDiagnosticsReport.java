@@ -0,0 +1,28 @@
+package com.yash.usermanagement.diagnostics;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+/**
+ * Body of {@code GET /pool}: current pool and executor state, the verdict over the sample window and
+ * datasource configuration warnings.
+ */
+@Serdeable
+public record PoolDiagnosticsReport(Pool pool, Executor executor, PoolGuidance guidance, List<String> warnings,
+                                    List<PoolSample> recent) {
+
+    @Serdeable
+    public record Pool(String name, int maximumPoolSize, int minimumIdle, long connectionTimeoutMillis,
+                       int active, int idle, int pending, double acquireMeanMillis, double acquireMaxMillis,
+                       double timeouts) {
+    }
+
+    /**
+     * {@code queued} and {@code active} are null for virtual threads, whose waiting requests show up as
+     * pending connections instead.
+     */
+    @Serdeable
+    public record Executor(String name, String type, Integer queued, Integer active) {
+    }
+}
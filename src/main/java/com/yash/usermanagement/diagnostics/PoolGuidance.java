@@ -0,0 +1,119 @@
+package com.yash.usermanagement.diagnostics;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sizing verdict derived from a window of {@link PoolSample}s.
+ */
+@Serdeable
+public record PoolGuidance(Verdict verdict, Integer suggestedMaximumPoolSize, String detail,
+                           int peakActive, int peakPending, double waitingFraction, double peakAcquireMillis,
+                           Double acquireQueueCorrelation) {
+
+    static final int MIN_SAMPLES = 10;
+    // Share of samples with waiting requests from which the pool counts as saturated
+    static final double SATURATED_FRACTION = 0.05;
+    static final double CORRELATED = 0.5;
+
+    public enum Verdict {
+        INSUFFICIENT_DATA,
+        HEALTHY,
+        /** Requests wait for connections. */
+        POOL_SATURATED,
+        /** Requests queue on the blocking executor while connections are idle. */
+        EXECUTOR_SATURATED,
+        /** The busiest sample used at most half of the pool. */
+        OVERSIZED
+    }
+
+    static PoolGuidance evaluate(List<PoolSample> samples, int maximumPoolSize, int minimumIdle,
+                                 double acquireWarningMillis) {
+        int peakActive = 0;
+        int peakPending = 0;
+        int peakDemand = 0;
+        int peakQueued = 0;
+        int waiting = 0;
+        double peakAcquire = 0;
+        for (PoolSample sample : samples) {
+            peakActive = Math.max(peakActive, sample.active());
+            peakPending = Math.max(peakPending, sample.pending());
+            peakDemand = Math.max(peakDemand, sample.active() + sample.pending());
+            peakAcquire = Math.max(peakAcquire, sample.acquireMillis());
+            if (sample.executorQueued() != null) {
+                peakQueued = Math.max(peakQueued, sample.executorQueued());
+            }
+            if (sample.pending() > 0 || sample.acquireMillis() > acquireWarningMillis) {
+                waiting++;
+            }
+        }
+        double waitingFraction = samples.isEmpty() ? 0 : (double) waiting / samples.size();
+        Double correlation = correlation(samples);
+
+        if (samples.size() < MIN_SAMPLES) {
+            return new PoolGuidance(Verdict.INSUFFICIENT_DATA, null,
+                    "Only " + samples.size() + " sample(s) so far", peakActive, peakPending, waitingFraction,
+                    peakAcquire, correlation);
+        }
+        if (waitingFraction >= SATURATED_FRACTION) {
+            int suggested = Math.min(Math.max(peakDemand, maximumPoolSize + 1), maximumPoolSize * 2);
+            String detail = String.format("Requests waited for a connection in %.0f%% of samples (up to %d waiting,"
+                            + " acquire up to %.1f ms). Raise maximumPoolSize towards %d if the database has room for"
+                            + " it across all instances, or shorten the time each request holds a connection.",
+                    waitingFraction * 100, peakPending, peakAcquire, suggested);
+            if (correlation != null && correlation >= CORRELATED) {
+                detail += String.format(" The blocking executor queue follows the acquire time (r=%.2f), so requests"
+                        + " are queueing behind the pool.", correlation);
+            }
+            return new PoolGuidance(Verdict.POOL_SATURATED, suggested, detail, peakActive, peakPending,
+                    waitingFraction, peakAcquire, correlation);
+        }
+        if (peakQueued > 0) {
+            return new PoolGuidance(Verdict.EXECUTOR_SATURATED, null, "The blocking executor queued up to "
+                    + peakQueued + " task(s) while connections were available; the executor, not the pool, is"
+                    + " the limit", peakActive, peakPending, waitingFraction, peakAcquire, correlation);
+        }
+        if (peakActive * 2 <= maximumPoolSize) {
+            int suggested = Math.max(Math.max(minimumIdle, 1), (int) Math.ceil(peakActive * 1.5));
+            if (suggested < maximumPoolSize) {
+                return new PoolGuidance(Verdict.OVERSIZED, suggested, "At most " + peakActive + " of "
+                        + maximumPoolSize + " connections were in use", peakActive, peakPending, waitingFraction,
+                        peakAcquire, correlation);
+            }
+        }
+        return new PoolGuidance(Verdict.HEALTHY, null, "No waiting for connections in the window", peakActive,
+                peakPending, waitingFraction, peakAcquire, correlation);
+    }
+
+    /**
+     * Pearson correlation of acquire time and executor queue depth, or null without a queue or variance.
+     */
+    static Double correlation(List<PoolSample> samples) {
+        if (samples.size() < 2 || samples.stream().map(PoolSample::executorQueued).anyMatch(Objects::isNull)) {
+            return null;
+        }
+        int n = samples.size();
+        double meanX = 0;
+        double meanY = 0;
+        for (PoolSample sample : samples) {
+            meanX += sample.acquireMillis() / n;
+            meanY += (double) sample.executorQueued() / n;
+        }
+        double covariance = 0;
+        double varianceX = 0;
+        double varianceY = 0;
+        for (PoolSample sample : samples) {
+            double dx = sample.acquireMillis() - meanX;
+            double dy = sample.executorQueued() - meanY;
+            covariance += dx * dy;
+            varianceX += dx * dx;
+            varianceY += dy * dy;
+        }
+        if (varianceX == 0 || varianceY == 0) {
+            return null;
+        }
+        return covariance / Math.sqrt(varianceX * varianceY);
+    }
+}
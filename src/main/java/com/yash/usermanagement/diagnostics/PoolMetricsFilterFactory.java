@@ -0,0 +1,33 @@
+package com.yash.usermanagement.diagnostics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micronaut.context.annotation.Factory;
+import jakarta.inject.Singleton;
+
+/**
+ * Publishes the Hikari acquire and usage timers as histograms, so percentiles can be aggregated across
+ * instances instead of relying on the per-instance mean and max.
+ */
+@Factory
+public class PoolMetricsFilterFactory {
+
+    @Singleton
+    MeterFilter hikariHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().equals("hikaricp.connections.acquire")
+                        || id.getName().equals("hikaricp.connections.usage")) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .percentiles(0.5, 0.95, 0.99)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
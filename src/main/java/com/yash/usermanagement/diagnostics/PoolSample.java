@@ -0,0 +1,13 @@
+package com.yash.usermanagement.diagnostics;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+/**
+ * One observation of the connection pool and the blocking executor. {@code acquireMillis} is the average
+ * connection acquire time since the previous sample; the executor values are null when the blocking
+ * executor has no queue (virtual threads).
+ */
+@Serdeable
+public record PoolSample(long timestamp, int active, int idle, int pending, double acquireMillis,
+                         Integer executorQueued, Integer executorActive) {
+}
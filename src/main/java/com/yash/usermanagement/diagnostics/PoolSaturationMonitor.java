@@ -0,0 +1,150 @@
+package com.yash.usermanagement.diagnostics;
+
+import com.yash.usermanagement.config.PoolDiagnosticsConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.env.Environment;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.runtime.server.event.ServerStartupEvent;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Samples the Hikari pool next to the blocking executor so that time spent waiting for a connection can be
+ * told apart from time spent queued for a thread. Also makes sure Hikari publishes its
+ * {@code hikaricp.connections.*} meters (active, idle, pending, acquire, usage, timeout) to Micrometer.
+ */
+@Singleton
+@Requires(property = "diagnostics.pool.enabled", notEquals = StringUtils.FALSE)
+@Requires(beans = DataSource.class)
+public class PoolSaturationMonitor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PoolSaturationMonitor.class);
+    private static final int RECENT = 30;
+
+    private final PoolDiagnosticsConfig config;
+    private final HikariDataSource hikari;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final boolean virtualExecutor;
+    // Not synchronized: sampling and reports may run on virtual threads
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<PoolSample> samples = new ArrayDeque<>();
+    private long lastAcquireCount;
+    private double lastAcquireMillis;
+
+    public PoolSaturationMonitor(PoolDiagnosticsConfig config, DataSource dataSource, MeterRegistry meterRegistry,
+                                 Environment environment,
+                                 @Value("${micronaut.executors.blocking.virtual:false}") boolean virtualExecutor)
+            throws SQLException {
+        this.config = config;
+        this.hikari = dataSource.unwrap(HikariDataSource.class);
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        this.virtualExecutor = virtualExecutor;
+        if (hikari.getMetricRegistry() == null && hikari.getMetricsTrackerFactory() == null) {
+            // Allowed once on a running pool
+            hikari.setMetricRegistry(meterRegistry);
+        }
+    }
+
+    @EventListener
+    public void onStartup(ServerStartupEvent event) {
+        warnings().forEach(warning -> LOG.warn("Datasource configuration: {}", warning));
+    }
+
+    @Scheduled(fixedDelay = "${diagnostics.pool.sample-interval:1s}")
+    void sample() {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return;
+        }
+        PoolSample sample = new PoolSample(System.currentTimeMillis(), pool.getActiveConnections(),
+                pool.getIdleConnections(), pool.getThreadsAwaitingConnection(), acquireMillisSinceLastSample(),
+                executorGauge("executor.queued"), executorGauge("executor.active"));
+        lock.lock();
+        try {
+            samples.addLast(sample);
+            while (samples.size() > config.getWindow()) {
+                samples.removeFirst();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public PoolDiagnosticsReport report() {
+        List<PoolSample> window;
+        lock.lock();
+        try {
+            window = new ArrayList<>(samples);
+        } finally {
+            lock.unlock();
+        }
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        Timer acquire = acquireTimer();
+        Counter timeouts = meterRegistry.find("hikaricp.connections.timeout").tag("pool", hikari.getPoolName())
+                .counter();
+        PoolDiagnosticsReport.Pool poolState = new PoolDiagnosticsReport.Pool(hikari.getPoolName(),
+                hikari.getMaximumPoolSize(), hikari.getMinimumIdle(), hikari.getConnectionTimeout(),
+                pool == null ? 0 : pool.getActiveConnections(), pool == null ? 0 : pool.getIdleConnections(),
+                pool == null ? 0 : pool.getThreadsAwaitingConnection(),
+                acquire == null ? 0 : acquire.mean(TimeUnit.MILLISECONDS),
+                acquire == null ? 0 : acquire.max(TimeUnit.MILLISECONDS),
+                timeouts == null ? 0 : timeouts.count());
+        PoolDiagnosticsReport.Executor executor = new PoolDiagnosticsReport.Executor(TaskExecutors.BLOCKING,
+                virtualExecutor ? "virtual" : "platform", executorGauge("executor.queued"),
+                executorGauge("executor.active"));
+        PoolGuidance guidance = PoolGuidance.evaluate(window, hikari.getMaximumPoolSize(), hikari.getMinimumIdle(),
+                config.getAcquireWarning().toNanos() / 1_000_000.0);
+        return new PoolDiagnosticsReport(poolState, executor, guidance, warnings(),
+                window.subList(Math.max(0, window.size() - RECENT), window.size()));
+    }
+
+    List<String> warnings() {
+        return DatasourcePropertyCheck.check(environment, "default", hikari);
+    }
+
+    private double acquireMillisSinceLastSample() {
+        Timer acquire = acquireTimer();
+        if (acquire == null) {
+            return 0;
+        }
+        long count = acquire.count();
+        double totalMillis = acquire.totalTime(TimeUnit.MILLISECONDS);
+        double average = count > lastAcquireCount
+                ? (totalMillis - lastAcquireMillis) / (count - lastAcquireCount)
+                : 0;
+        lastAcquireCount = count;
+        lastAcquireMillis = totalMillis;
+        return average;
+    }
+
+    private Timer acquireTimer() {
+        return meterRegistry.find("hikaricp.connections.acquire").tag("pool", hikari.getPoolName()).timer();
+    }
+
+    private Integer executorGauge(String name) {
+        Gauge gauge = meterRegistry.find(name).tag("name", TaskExecutors.BLOCKING).gauge();
+        return gauge == null ? null : (int) gauge.value();
+    }
+}
@@ -0,0 +1,32 @@
+package com.yash.usermanagement.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.UUID;
+
+@Serdeable
+public class MarkAllReadResponse {
+    private UUID userId;
+    private int markedCount;
+
+    public MarkAllReadResponse(UUID userId, int markedCount) {
+        this.userId = userId;
+        this.markedCount = markedCount;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public int getMarkedCount() {
+        return markedCount;
+    }
+
+    public void setMarkedCount(int markedCount) {
+        this.markedCount = markedCount;
+    }
+}
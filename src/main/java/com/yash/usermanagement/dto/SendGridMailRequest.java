@@ -0,0 +1,51 @@
+package com.yash.usermanagement.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request body of the SendGrid v3 {@code /mail/send} API.
+ */
+@Serdeable
+public record SendGridMailRequest(
+        List<Personalization> personalizations,
+        EmailAddress from,
+        String subject,
+        List<Content> content) {
+
+    public static SendGridMailRequest of(String from, String to, String subject, String plainText, String html) {
+        return new SendGridMailRequest(
+                List.of(new Personalization(List.of(new EmailAddress(to)), null)),
+                new EmailAddress(from),
+                subject,
+                // SendGrid requires text/plain to precede text/html
+                List.of(new Content("text/plain", plainText), new Content("text/html", html)));
+    }
+
+    /**
+     * One request for many recipients: the content holds only {@code substitution} tokens and each
+     * personalization supplies its own values for them.
+     */
+    public static SendGridMailRequest personalized(String from, String subject, String plainTextToken,
+            String htmlToken, List<Personalization> personalizations) {
+        return new SendGridMailRequest(
+                personalizations,
+                new EmailAddress(from),
+                subject,
+                List.of(new Content("text/plain", plainTextToken), new Content("text/html", htmlToken)));
+    }
+
+    @Serdeable
+    public record Personalization(List<EmailAddress> to, Map<String, String> substitutions) {
+    }
+
+    @Serdeable
+    public record EmailAddress(String email) {
+    }
+
+    @Serdeable
+    public record Content(String type, String value) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.yash.usermanagement.dto;
+
+import com.yash.usermanagement.model.UserRole;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.UUID;
+
+/**
+ * The columns login needs: the password to check and the claims that go into the token.
+ */
+@Introspected
+@Serdeable
+public record UserCredentials(UUID id, String email, String password, UserRole role, String firstName,
+                              String lastName) {
+}
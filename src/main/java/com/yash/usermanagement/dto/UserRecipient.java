@@ -0,0 +1,15 @@
+package com.yash.usermanagement.dto;
+
+import com.yash.usermanagement.model.UserRole;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.UUID;
+
+/**
+ * Who a notification goes to and how to address them.
+ */
+@Introspected
+@Serdeable
+public record UserRecipient(UUID id, String email, String firstName, String lastName, UserRole role) {
+}
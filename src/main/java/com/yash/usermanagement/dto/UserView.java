@@ -0,0 +1,22 @@
+package com.yash.usermanagement.dto;
+
+import com.yash.usermanagement.model.AddressType;
+import com.yash.usermanagement.model.Gender;
+import com.yash.usermanagement.model.UserRole;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A user and their address as read for display: one flat row from {@code users LEFT JOIN addresses},
+ * without the password. Address columns are null when the user has none.
+ */
+@Introspected
+@Serdeable
+public record UserView(UUID id, String firstName, String lastName, String email, LocalDate dateOfBirth,
+                       String phoneNumber, Gender gender, UserRole role, UUID addressId, String streetAddress,
+                       String city, String state, String postalCode, String country, AddressType addressType,
+                       Boolean defaultAddress) {
+}
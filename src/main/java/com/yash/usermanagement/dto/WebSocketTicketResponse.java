@@ -0,0 +1,30 @@
+package com.yash.usermanagement.dto;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+@Serdeable
+public class WebSocketTicketResponse {
+    private String ticket;
+    private long expiresInSeconds;
+
+    public WebSocketTicketResponse(String ticket, long expiresInSeconds) {
+        this.ticket = ticket;
+        this.expiresInSeconds = expiresInSeconds;
+    }
+
+    public String getTicket() {
+        return ticket;
+    }
+
+    public void setTicket(String ticket) {
+        this.ticket = ticket;
+    }
+
+    public long getExpiresInSeconds() {
+        return expiresInSeconds;
+    }
+
+    public void setExpiresInSeconds(long expiresInSeconds) {
+        this.expiresInSeconds = expiresInSeconds;
+    }
+}
@@ -0,0 +1,25 @@
+package com.yash.usermanagement.event;
+
+import com.yash.usermanagement.model.Notification;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import jakarta.inject.Singleton;
+
+/**
+ * Single-node bus: notifications are only delivered to sessions connected to this instance.
+ */
+@Singleton
+@Requires(property = "micronaut.notifications.bus.type", value = "memory", defaultValue = "memory")
+public class InMemoryNotificationBus implements NotificationBus {
+
+    private final ApplicationEventPublisher<NotificationCreatedEvent> eventPublisher;
+
+    public InMemoryNotificationBus(ApplicationEventPublisher<NotificationCreatedEvent> eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(Notification notification) {
+        eventPublisher.publishEvent(new NotificationCreatedEvent(notification));
+    }
+}
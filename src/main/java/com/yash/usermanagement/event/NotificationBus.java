@@ -0,0 +1,13 @@
+package com.yash.usermanagement.event;
+
+import com.yash.usermanagement.model.Notification;
+
+/**
+ * Fans stored notifications out to every application node. Each node re-publishes what it receives
+ * as a local {@link NotificationCreatedEvent}, which the WebSocket registry delivers to its own sessions.
+ * Delivery is best effort; clients that miss a message catch up through the REST inbox.
+ */
+public interface NotificationBus {
+
+    void publish(Notification notification);
+}
@@ -0,0 +1,9 @@
+package com.yash.usermanagement.event;
+
+import com.yash.usermanagement.model.Notification;
+
+/**
+ * Published after a notification has been stored, so live subscribers can be pushed the new item.
+ */
+public record NotificationCreatedEvent(Notification notification) {
+}
@@ -0,0 +1,253 @@
+package com.yash.usermanagement.event;
+
+import com.yash.usermanagement.config.NotificationBusConfig;
+import com.yash.usermanagement.model.Notification;
+import com.yash.usermanagement.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cross-node bus on Postgres LISTEN/NOTIFY, so no extra infrastructure is needed.
+ * <p>
+ * Publishing only enqueues; once per tick the queue is drained and sent as JSON arrays, one
+ * {@code pg_notify} per chunk that fits the 8000-byte payload limit. A notification too large on its own
+ * is sent as a key-only reference and re-read from DynamoDB by the receivers. Every node, including the
+ * sender, holds a dedicated non-pooled connection that LISTENs on the channel.
+ */
+@Singleton
+@Requires(property = "micronaut.notifications.bus.type", value = "postgres")
+public class PostgresNotificationBus implements NotificationBus {
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresNotificationBus.class);
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private final NotificationBusConfig config;
+    private final DataSource dataSource;
+    private final JsonMapper jsonMapper;
+    private final ApplicationEventPublisher<NotificationCreatedEvent> eventPublisher;
+    private final BeanProvider<NotificationRepository> notificationRepository;
+    private final BlockingQueue<Notification> outbox;
+    private final ScheduledExecutorService flusher;
+    private final Counter dropped;
+    private final Counter sent;
+    private final Counter received;
+    private final String url;
+    private final String username;
+    private final String password;
+    private volatile boolean running = true;
+    private Thread listener;
+
+    public PostgresNotificationBus(NotificationBusConfig config,
+                                   DataSource dataSource,
+                                   JsonMapper jsonMapper,
+                                   ApplicationEventPublisher<NotificationCreatedEvent> eventPublisher,
+                                   BeanProvider<NotificationRepository> notificationRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${datasources.default.url}") String url,
+                                   @Value("${datasources.default.username}") String username,
+                                   @Value("${datasources.default.password}") String password) {
+        this.config = config;
+        this.dataSource = dataSource;
+        this.jsonMapper = jsonMapper;
+        this.eventPublisher = eventPublisher;
+        this.notificationRepository = notificationRepository;
+        this.outbox = new ArrayBlockingQueue<>(config.getMaxQueued());
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-bus-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dropped = meterRegistry.counter("notifications.bus.dropped");
+        this.sent = meterRegistry.counter("notifications.bus.sent");
+        this.received = meterRegistry.counter("notifications.bus.received");
+        meterRegistry.gauge("notifications.bus.outbox", outbox, BlockingQueue::size);
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    @PostConstruct
+    void start() {
+        long tickMillis = Math.max(1, config.getTick().toMillis());
+        flusher.scheduleWithFixedDelay(this::flush, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        startListener();
+    }
+
+    private void startListener() {
+        running = true;
+        listener = new Thread(this::listen, "notification-bus-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    /**
+     * Flushes the outbox and stops listening, closing the dedicated connection. Used before a CRaC
+     * checkpoint; {@link #resume()} reconnects.
+     */
+    public void suspend() throws InterruptedException {
+        flush();
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+            listener.join(5_000);
+            if (listener.isAlive()) {
+                LOG.warn("Notification bus listener did not stop within 5 s");
+            }
+        }
+    }
+
+    public void resume() {
+        if (!running) {
+            startListener();
+        }
+    }
+
+    @Override
+    public void publish(Notification notification) {
+        if (!outbox.offer(notification)) {
+            dropped.increment();
+            LOG.warn("Notification bus outbox full, dropping live delivery of {}", notification.getId());
+        }
+    }
+
+    void flush() {
+        List<Notification> drained = new ArrayList<>();
+        outbox.drainTo(drained);
+        if (drained.isEmpty()) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement notify = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            for (String payload : chunk(drained)) {
+                notify.setString(1, config.getChannel());
+                notify.setString(2, payload);
+                notify.addBatch();
+            }
+            notify.executeBatch();
+            sent.increment(drained.size());
+        } catch (SQLException | IOException e) {
+            dropped.increment(drained.size());
+            LOG.error("Failed to publish {} notification(s) to the bus", drained.size(), e);
+        }
+    }
+
+    private List<String> chunk(List<Notification> notifications) throws IOException {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder current = new StringBuilder("[");
+        for (Notification notification : notifications) {
+            String json = jsonMapper.writeValueAsString(notification);
+            if (json.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES - 2) {
+                json = jsonMapper.writeValueAsString(reference(notification));
+            }
+            int size = current.toString().getBytes(StandardCharsets.UTF_8).length;
+            if (current.length() > 1 && size + json.getBytes(StandardCharsets.UTF_8).length + 2 > MAX_PAYLOAD_BYTES) {
+                payloads.add(current.append(']').toString());
+                current = new StringBuilder("[");
+            }
+            if (current.length() > 1) {
+                current.append(',');
+            }
+            current.append(json);
+        }
+        payloads.add(current.append(']').toString());
+        return payloads;
+    }
+
+    private void listen() {
+        long backoffMillis = 500;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN \"" + config.getChannel().replace("\"", "") + "\"");
+                }
+                LOG.info("Listening for notifications on channel {}", config.getChannel());
+                backoffMillis = 500;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(1000);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            deliver(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                LOG.warn("Notification bus listener disconnected, retrying in {} ms", backoffMillis, e);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, 30_000);
+            }
+        }
+    }
+
+    private void deliver(String payload) {
+        try {
+            List<Notification> notifications = jsonMapper.readValue(payload, Argument.listOf(Notification.class));
+            for (Notification notification : notifications) {
+                received.increment();
+                if (notification.getTitle() == null) {
+                    notification = notificationRepository.get()
+                            .findByKey(notification.getUserId(), notification.getId())
+                            .orElse(null);
+                }
+                if (notification != null) {
+                    eventPublisher.publishEvent(new NotificationCreatedEvent(notification));
+                }
+            }
+        } catch (Exception e) {
+            LOG.error("Failed to handle notification bus payload", e);
+        }
+    }
+
+    private static Notification reference(Notification notification) {
+        Notification reference = new Notification();
+        reference.setId(notification.getId());
+        reference.setUserId(notification.getUserId());
+        return reference;
+    }
+
+    @PreDestroy
+    void stop() {
+        flush();
+        running = false;
+        flusher.shutdownNow();
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+}
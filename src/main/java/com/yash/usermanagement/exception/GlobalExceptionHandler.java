@@ -29,6 +29,8 @@ public class GlobalExceptionHandler implements ExceptionHandler<Exception, HttpR
             return HttpResponse.status(HttpStatus.CONFLICT).body(new ErrorResponse(exception.getMessage(), request.getPath()));
         } else if (exception instanceof DatabaseException) {
             return HttpResponse.serverError(new ErrorResponse("Database error: " + exception.getMessage(), request.getPath()));
+        } else if (exception instanceof DependencyUnavailableException) {
+            return HttpResponse.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorResponse(exception.getMessage(), request.getPath()));
         } else if (exception instanceof DataAccessException) {
             return HttpResponse.serverError(new ErrorResponse("Database error occurred", request.getPath()));
         } else {
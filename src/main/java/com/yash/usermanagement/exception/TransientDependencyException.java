@@ -0,0 +1,15 @@
+package com.yash.usermanagement.exception;
+
+/**
+ * Signals that a downstream dependency rejected a request without acting on it
+ * (throttling, 5xx), so the request is safe to retry even when it is not idempotent.
+ */
+public class TransientDependencyException extends RuntimeException {
+    public TransientDependencyException(String message) {
+        super(message);
+    }
+
+    public TransientDependencyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,36 @@
+package com.yash.usermanagement.health;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Initialization state of an external integration, as reported by {@link IntegrationsHealthIndicator}.
+ */
+public record IntegrationStatus(State state, String detail, Instant since) {
+
+    public enum State {
+        /** Not used yet; initialized on first use. */
+        LAZY,
+        /** Background warm-up in progress. */
+        WARMING,
+        READY,
+        /** No credentials configured; calls fail fast. */
+        UNCONFIGURED,
+        FAILED
+    }
+
+    public static IntegrationStatus of(State state, String detail) {
+        return new IntegrationStatus(state, detail, Instant.now());
+    }
+
+    public Map<String, Object> toDetails() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("state", state.name());
+        if (detail != null) {
+            details.put("detail", detail);
+        }
+        details.put("since", since.toString());
+        return details;
+    }
+}
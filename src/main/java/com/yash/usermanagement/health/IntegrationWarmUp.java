@@ -0,0 +1,50 @@
+package com.yash.usermanagement.health;
+
+import com.yash.usermanagement.config.FirebaseMessagingProvider;
+import com.yash.usermanagement.service.impl.SendGridEmailService;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.runtime.server.event.ServerStartupEvent;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Initializes Firebase and checks SendGrid on the IO executor once the HTTP port is open, so startup does
+ * not wait for either. Until both finish, {@link IntegrationsHealthIndicator} keeps readiness DOWN.
+ * With {@code integrations.warm-up: false} both initialize on first use instead.
+ */
+@Singleton
+public class IntegrationWarmUp {
+
+    private final FirebaseMessagingProvider firebase;
+    private final SendGridEmailService sendGrid;
+    private final ExecutorService ioExecutor;
+    private final boolean enabled;
+
+    public IntegrationWarmUp(FirebaseMessagingProvider firebase, SendGridEmailService sendGrid,
+                             @Named(TaskExecutors.IO) ExecutorService ioExecutor,
+                             @Value("${integrations.warm-up:true}") boolean enabled) {
+        this.firebase = firebase;
+        this.sendGrid = sendGrid;
+        this.ioExecutor = ioExecutor;
+        this.enabled = enabled;
+    }
+
+    @EventListener
+    public void onStartup(ServerStartupEvent event) {
+        if (enabled) {
+            warmUp();
+        }
+    }
+
+    /**
+     * Starts both warm-ups regardless of {@code integrations.warm-up}; also used after a CRaC restore.
+     */
+    public void warmUp() {
+        ioExecutor.execute(firebase::warmUp);
+        ioExecutor.execute(sendGrid::warmUp);
+    }
+}
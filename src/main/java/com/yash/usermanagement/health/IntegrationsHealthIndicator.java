@@ -0,0 +1,48 @@
+package com.yash.usermanagement.health;
+
+import com.yash.usermanagement.config.FirebaseMessagingProvider;
+import com.yash.usermanagement.service.impl.SendGridEmailService;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.health.indicator.AbstractHealthIndicator;
+import io.micronaut.management.health.indicator.annotation.Readiness;
+import jakarta.inject.Singleton;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Readiness of the Firebase and SendGrid integrations under {@code /health/readiness}. DOWN only while a
+ * background warm-up is running; failed or unconfigured integrations are reported in the details but
+ * keep the instance ready, since every other endpoint still works.
+ */
+@Singleton
+@Readiness
+public class IntegrationsHealthIndicator extends AbstractHealthIndicator<Map<String, Object>> {
+
+    private final FirebaseMessagingProvider firebase;
+    private final SendGridEmailService sendGrid;
+
+    public IntegrationsHealthIndicator(FirebaseMessagingProvider firebase, SendGridEmailService sendGrid) {
+        this.firebase = firebase;
+        this.sendGrid = sendGrid;
+    }
+
+    @Override
+    protected String getName() {
+        return "integrations";
+    }
+
+    @Override
+    protected Map<String, Object> getHealthInformation() {
+        IntegrationStatus firebaseStatus = firebase.status();
+        IntegrationStatus sendGridStatus = sendGrid.status();
+        boolean warming = firebaseStatus.state() == IntegrationStatus.State.WARMING
+                || sendGridStatus.state() == IntegrationStatus.State.WARMING;
+        healthStatus = warming ? HealthStatus.DOWN : HealthStatus.UP;
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("firebase", firebaseStatus.toDetails());
+        details.put("sendgrid", sendGridStatus.toDetails());
+        return details;
+    }
+}
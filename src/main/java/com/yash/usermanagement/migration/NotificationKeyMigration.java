@@ -0,0 +1,224 @@
+package com.yash.usermanagement.migration;
+
+import com.yash.usermanagement.config.DynamoDbClientConfig;
+import com.yash.usermanagement.config.DynamoDbConfig;
+import com.yash.usermanagement.config.MicrometerSdkMetricPublisher;
+import com.yash.usermanagement.config.NotificationRetentionConfig;
+import com.yash.usermanagement.model.Notification;
+import com.yash.usermanagement.repository.NotificationCounterRepository;
+import com.yash.usermanagement.repository.NotificationRepository;
+import com.yash.usermanagement.repository.NotificationTableSchema;
+import com.yash.usermanagement.util.Ulid;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One-off backfill from the legacy {@code notifications} table (random UUID hash key) into
+ * {@value NotificationRepository#TABLE_NAME} (userId + ULID, with TTL).
+ * <p>
+ * Each item gets a ULID derived from its createdAt and legacy id, so inbox ordering is preserved and
+ * re-runs overwrite the same items; migrated notifications do get new ids. Items that would already be
+ * expired are skipped. The source table is left untouched so the migration can be re-run or rolled back.
+ * <p>
+ * Batch writes bypass the unread counters, so finish with {@code --rebuild-counters}, which recounts
+ * unread items per user and overwrites {@value NotificationCounterRepository#TABLE_NAME}. It can also be
+ * run on its own to correct drift, e.g. from unread items removed by TTL.
+ * <p>
+ * Usage: {@code ./gradlew migrateNotificationKeys -PmigrationArgs="--endpoint http://localhost:8000 --segments 4 --dry-run"}
+ */
+public final class NotificationKeyMigration {
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationKeyMigration.class);
+    private static final int BATCH_SIZE = 25;
+
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbEnhancedClient enhancedClient;
+    private final DynamoDbTable<Notification> source;
+    private final DynamoDbTable<Notification> target;
+    private final NotificationRetentionConfig retentionConfig = new NotificationRetentionConfig();
+    private final boolean dryRun;
+    private final AtomicLong migrated = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    NotificationKeyMigration(DynamoDbClient dynamoDbClient, DynamoDbEnhancedClient enhancedClient, String sourceTable,
+                             boolean dryRun) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.enhancedClient = enhancedClient;
+        this.source = enhancedClient.table(sourceTable, NotificationTableSchema.SCHEMA);
+        this.target = enhancedClient.table(NotificationRepository.TABLE_NAME, NotificationTableSchema.SCHEMA);
+        this.dryRun = dryRun;
+    }
+
+    public static void main(String[] args) throws Exception {
+        DynamoDbClientConfig clientConfig = new DynamoDbClientConfig();
+        String sourceTable = "notifications";
+        int segments = 1;
+        boolean dryRun = false;
+        boolean migrate = true;
+        boolean rebuildCounters = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--endpoint" -> clientConfig.setEndpoint(args[++i]);
+                case "--region" -> clientConfig.setRegion(args[++i]);
+                case "--source" -> sourceTable = args[++i];
+                case "--segments" -> segments = Integer.parseInt(args[++i]);
+                case "--dry-run" -> dryRun = true;
+                case "--rebuild-counters" -> rebuildCounters = true;
+                case "--counters-only" -> {
+                    migrate = false;
+                    rebuildCounters = true;
+                }
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        DynamoDbConfig factory = new DynamoDbConfig(clientConfig, new MicrometerSdkMetricPublisher(new SimpleMeterRegistry()));
+        try (DynamoDbClient client = factory.dynamoDbClient()) {
+            NotificationKeyMigration migration =
+                    new NotificationKeyMigration(client, factory.dynamoDbEnhancedClient(client), sourceTable, dryRun);
+            if (migrate) {
+                migration.run(segments);
+            }
+            if (rebuildCounters) {
+                migration.rebuildCounters();
+            }
+        }
+    }
+
+    void run(int segments) throws Exception {
+        LOG.info("Migrating {} -> {} with {} segment(s){}", source.tableName(), target.tableName(), segments,
+                dryRun ? " (dry run)" : "");
+        ExecutorService executor = Executors.newFixedThreadPool(segments);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int segment = 0; segment < segments; segment++) {
+                int current = segment;
+                futures.add(executor.submit(() -> migrateSegment(current, segments)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        LOG.info("Migration finished: {} migrated, {} skipped", migrated.get(), skipped.get());
+    }
+
+    private void migrateSegment(int segment, int totalSegments) {
+        long now = System.currentTimeMillis() / 1000;
+        List<Notification> batch = new ArrayList<>(BATCH_SIZE);
+        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
+                .segment(segment)
+                .totalSegments(totalSegments)
+                .build();
+        for (Notification legacy : source.scan(request).items()) {
+            if (legacy.getUserId() == null) {
+                LOG.warn("Skipping notification {} without a userId", legacy.getId());
+                skipped.incrementAndGet();
+                continue;
+            }
+            long createdAtMillis = legacy.getCreatedAt() != null
+                    ? legacy.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    : System.currentTimeMillis();
+            legacy.setId(Ulid.at(createdAtMillis,
+                    UUID.nameUUIDFromBytes(legacy.getId().getBytes(StandardCharsets.UTF_8))));
+            legacy.setExpiresAt(retentionConfig.expiresAt(legacy));
+            if (legacy.getExpiresAt() <= now) {
+                skipped.incrementAndGet();
+                continue;
+            }
+            batch.add(legacy);
+            if (batch.size() == BATCH_SIZE) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<Notification> items) {
+        if (dryRun) {
+            migrated.addAndGet(items.size());
+            return;
+        }
+        List<Notification> pending = items;
+        long backoffMillis = 50;
+        while (!pending.isEmpty()) {
+            WriteBatch.Builder<Notification> writeBatch = WriteBatch.builder(Notification.class).mappedTableResource(target);
+            pending.forEach(writeBatch::addPutItem);
+            BatchWriteResult result = enhancedClient.batchWriteItem(BatchWriteItemEnhancedRequest.builder()
+                    .writeBatches(writeBatch.build())
+                    .build());
+            List<Notification> unprocessed = result.unprocessedPutItemsForTable(target);
+            migrated.addAndGet(pending.size() - unprocessed.size());
+            pending = unprocessed;
+            if (!pending.isEmpty()) {
+                sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, 2000);
+            }
+        }
+    }
+
+    void rebuildCounters() {
+        Map<String, Long> unread = new HashMap<>();
+        // Users that have a counter but no unread items left must be reset to zero
+        for (Map<String, AttributeValue> counter : dynamoDbClient.scanPaginator(ScanRequest.builder()
+                .tableName(NotificationCounterRepository.TABLE_NAME)
+                .projectionExpression("userId")
+                .build()).items()) {
+            unread.put(counter.get("userId").s(), 0L);
+        }
+        for (Map<String, AttributeValue> item : dynamoDbClient.scanPaginator(ScanRequest.builder()
+                .tableName(NotificationRepository.TABLE_NAME)
+                .projectionExpression("userId, #read")
+                .expressionAttributeNames(Map.of("#read", "read"))
+                .build()).items()) {
+            AttributeValue read = item.get("read");
+            long increment = read != null && Boolean.TRUE.equals(read.bool()) ? 0 : 1;
+            unread.merge(item.get("userId").s(), increment, Long::sum);
+        }
+        LOG.info("Rebuilding unread counters for {} user(s){}", unread.size(), dryRun ? " (dry run)" : "");
+        if (dryRun) {
+            return;
+        }
+        unread.forEach((userId, count) -> dynamoDbClient.putItem(PutItemRequest.builder()
+                .tableName(NotificationCounterRepository.TABLE_NAME)
+                .item(Map.of(
+                        "userId", AttributeValue.fromS(userId),
+                        "unreadCount", AttributeValue.fromN(Long.toString(count))))
+                .build()));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off", e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.yash.usermanagement.model;
+
+import io.micronaut.data.annotation.AutoPopulated;
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.Index;
+import io.micronaut.data.annotation.Indexes;
+import io.micronaut.data.annotation.MappedEntity;
+import io.micronaut.data.annotation.MappedProperty;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A LOW or MEDIUM notification waiting to go out in the recipient's next digest email.
+ * The address and first name are captured when buffered so the digest job needs no user lookups.
+ */
+@Serdeable
+@MappedEntity("notification_digest_items")
+@Indexes(@Index(name = "idx_digest_items_user_created", columns = {"user_id", "created_at"}))
+public class DigestItem {
+
+    @Id
+    @AutoPopulated
+    private UUID id;
+
+    @MappedProperty("user_id")
+    private UUID userId;
+
+    @MappedProperty("email")
+    private String email;
+
+    @MappedProperty("first_name")
+    private String firstName;
+
+    @MappedProperty("title")
+    private String title;
+
+    @MappedProperty("message")
+    private String message;
+
+    @MappedProperty("priority")
+    private NotificationPriority priority;
+
+    @MappedProperty("created_at")
+    private LocalDateTime createdAt;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public NotificationPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(NotificationPriority priority) {
+        this.priority = priority;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
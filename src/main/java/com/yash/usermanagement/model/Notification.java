@@ -7,12 +7,17 @@ import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import io.micronaut.serde.annotation.Serdeable;
-import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
-import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import com.yash.usermanagement.util.Ulid;
 
-@DynamoDbBean
+/**
+ * Stored in DynamoDB keyed by userId (partition) and a ULID id (sort), so a user's inbox is a single
+ * time-ordered query. The id-index GSI serves lookups by id alone; expiresAt is the table's TTL attribute.
+ * The item mapping is {@link com.yash.usermanagement.repository.NotificationTableSchema}.
+ */
 @Serdeable
 public class Notification {
+    public static final String ID_INDEX = "id-index";
+
     private String id;
     
     @NotNull(message = "User ID is required")
@@ -33,14 +38,16 @@ public class Notification {
     private LocalDateTime createdAt;
     private boolean read;
 
+    // Epoch seconds, DynamoDB deletes the item some time after this passes
+    private Long expiresAt;
+
     public Notification() {
-        this.id = UUID.randomUUID().toString();
+        this.id = Ulid.next();
         this.timestamp = LocalDateTime.now();
         this.createdAt = LocalDateTime.now();
         this.read = false;
     }
 
-    @DynamoDbPartitionKey
     public String getId() {
         return id;
     }
@@ -105,6 +112,14 @@ public class Notification {
         this.read = read;
     }
 
+    public Long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
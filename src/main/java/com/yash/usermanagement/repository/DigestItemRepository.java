@@ -0,0 +1,28 @@
+package com.yash.usermanagement.repository;
+
+import com.yash.usermanagement.model.DigestItem;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.CrudRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@JdbcRepository(dialect = Dialect.POSTGRES)
+public interface DigestItemRepository extends CrudRepository<DigestItem, UUID> {
+
+    @Query("SELECT DISTINCT user_id FROM notification_digest_items WHERE created_at <= :cutoff LIMIT :limit")
+    List<UUID> findPendingUserIds(LocalDateTime cutoff, int limit);
+
+    List<DigestItem> findByUserIdInAndCreatedAtLessThanEqualsOrderByCreatedAt(Collection<UUID> userIds,
+                                                                             LocalDateTime cutoff);
+
+    void deleteByIdIn(Collection<UUID> ids);
+
+    // Only one node claims digest batches at a time; released when the claiming transaction ends
+    @Query("SELECT pg_try_advisory_xact_lock(:key)")
+    boolean tryAdvisoryXactLock(long key);
+}
@@ -0,0 +1,66 @@
+package com.yash.usermanagement.repository;
+
+import jakarta.inject.Singleton;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One item per user holding the number of unread notifications. Writers adjust it with
+ * {@code UpdateItem ADD}, usually in the same transaction as the notification write, so reads are a single GetItem.
+ */
+@Singleton
+public class NotificationCounterRepository {
+    public static final String TABLE_NAME = "notification_counters";
+    private static final String UNREAD_COUNT = "unreadCount";
+
+    private final DynamoDbAsyncClient dynamoDbAsyncClient;
+
+    public NotificationCounterRepository(DynamoDbAsyncClient dynamoDbAsyncClient) {
+        this.dynamoDbAsyncClient = dynamoDbAsyncClient;
+    }
+
+    /**
+     * Counter adjustment to include in a {@code TransactWriteItems} call alongside the notification write.
+     */
+    public TransactWriteItem adjustUnread(UUID userId, long delta) {
+        return TransactWriteItem.builder()
+                .update(Update.builder()
+                        .tableName(TABLE_NAME)
+                        .key(key(userId))
+                        .updateExpression("ADD " + UNREAD_COUNT + " :delta")
+                        .expressionAttributeValues(Map.of(":delta", AttributeValue.fromN(Long.toString(delta))))
+                        .build())
+                .build();
+    }
+
+    public Mono<Long> findUnreadCount(UUID userId) {
+        return Mono.fromFuture(() -> dynamoDbAsyncClient.getItem(getRequest(userId)))
+                .map(NotificationCounterRepository::unreadCount);
+    }
+
+    private static GetItemRequest getRequest(UUID userId) {
+        return GetItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(key(userId))
+                .projectionExpression(UNREAD_COUNT)
+                .build();
+    }
+
+    // A missing item means nothing was ever counted; clamp at zero in case TTL expiry left the counter behind
+    private static long unreadCount(GetItemResponse response) {
+        AttributeValue value = response.hasItem() ? response.item().get(UNREAD_COUNT) : null;
+        return value == null ? 0 : Math.max(0, Long.parseLong(value.n()));
+    }
+
+    private static Map<String, AttributeValue> key(UUID userId) {
+        return Map.of("userId", AttributeValue.fromS(userId.toString()));
+    }
+}
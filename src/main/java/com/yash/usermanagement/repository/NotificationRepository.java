@@ -1,60 +1,247 @@
 package com.yash.usermanagement.repository;
 
+import com.yash.usermanagement.config.NotificationRetentionConfig;
+import com.yash.usermanagement.event.NotificationBus;
 import com.yash.usermanagement.model.Notification;
 import com.yash.usermanagement.model.NotificationPriority;
-import io.micronaut.context.annotation.Bean;
 import jakarta.inject.Singleton;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
-import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.Delete;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Singleton
 public class NotificationRepository {
+    public static final String TABLE_NAME = "user_notifications";
+
+    // DynamoDB allows 100 actions per transaction; one slot is kept for the counter update
+    private static final int MARK_ALL_BATCH_SIZE = 99;
+    private static final Map<String, String> READ_NAME = Map.of("#read", "read");
+
     private final DynamoDbTable<Notification> notificationTable;
+    private final DynamoDbClient dynamoDbClient;
+    private final NotificationCounterRepository counterRepository;
+    private final NotificationRetentionConfig retentionConfig;
+    private final NotificationBus notificationBus;
 
-    public NotificationRepository(DynamoDbEnhancedClient enhancedClient) {
-        this.notificationTable = enhancedClient.table("notifications", TableSchema.fromBean(Notification.class));
+    public NotificationRepository(DynamoDbEnhancedClient enhancedClient,
+                                  DynamoDbClient dynamoDbClient,
+                                  NotificationCounterRepository counterRepository,
+                                  NotificationRetentionConfig retentionConfig,
+                                  NotificationBus notificationBus) {
+        this.notificationTable = enhancedClient.table(TABLE_NAME, NotificationTableSchema.SCHEMA);
+        this.dynamoDbClient = dynamoDbClient;
+        this.counterRepository = counterRepository;
+        this.retentionConfig = retentionConfig;
+        this.notificationBus = notificationBus;
     }
 
+    /**
+     * Inserts a new notification. Unread ones bump the user's unread counter in the same transaction.
+     * Once the write has succeeded the notification is handed to the {@link NotificationBus} for live delivery.
+     */
     public Notification save(Notification notification) {
-        notificationTable.putItem(notification);
+        if (notification.getExpiresAt() == null) {
+            notification.setExpiresAt(retentionConfig.expiresAt(notification));
+        }
+        if (notification.isRead()) {
+            notificationTable.putItem(notification);
+        } else {
+            TransactWriteItem put = TransactWriteItem.builder()
+                    .put(Put.builder()
+                            .tableName(TABLE_NAME)
+                            .item(notificationTable.tableSchema().itemToMap(notification, true))
+                            .conditionExpression("attribute_not_exists(id)")
+                            .build())
+                    .build();
+            transact(put, counterRepository.adjustUnread(notification.getUserId(), 1));
+        }
+        notificationBus.publish(notification);
         return notification;
     }
 
+    /**
+     * Like {@link #save(Notification)}, but an existing item with the same key is left alone.
+     *
+     * @return false if a notification with this id was already stored
+     */
+    public boolean saveIfAbsent(Notification notification) {
+        try {
+            save(notification);
+            return true;
+        } catch (TransactionCanceledException e) {
+            if (conditionFailed(e)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Flips an unread notification to read and decrements the counter.
+     *
+     * @return false if it was already read or no longer exists
+     */
+    public boolean markAsRead(Notification notification) {
+        boolean changed = markAsRead(notification.getUserId(), notification.getId());
+        if (changed) {
+            notification.setRead(true);
+        }
+        return changed;
+    }
+
+    private boolean markAsRead(UUID userId, String id) {
+        try {
+            transact(markRead(userId, id), counterRepository.adjustUnread(userId, -1));
+            return true;
+        } catch (TransactionCanceledException e) {
+            if (conditionFailed(e)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Marks every unread notification of a user as read. Unread keys are paged with a keys-only query
+     * and flipped in transactions of up to {@value #MARK_ALL_BATCH_SIZE} conditional updates plus one
+     * counter adjustment. A batch that races with another writer is retried item by item.
+     *
+     * @return how many notifications changed from unread to read
+     */
+    public int markAllAsRead(UUID userId) {
+        QueryEnhancedRequest unreadKeys = newestFirst(userId)
+                .filterExpression(Expression.builder()
+                        .expression("#read = :false")
+                        .expressionNames(READ_NAME)
+                        .expressionValues(Map.of(":false", AttributeValue.fromBool(false)))
+                        .build())
+                .attributesToProject("id")
+                .build();
+        int marked = 0;
+        List<String> batch = new ArrayList<>(MARK_ALL_BATCH_SIZE);
+        for (Notification notification : notificationTable.query(unreadKeys).items()) {
+            batch.add(notification.getId());
+            if (batch.size() == MARK_ALL_BATCH_SIZE) {
+                marked += markBatchAsRead(userId, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            marked += markBatchAsRead(userId, batch);
+        }
+        return marked;
+    }
+
+    private int markBatchAsRead(UUID userId, List<String> ids) {
+        List<TransactWriteItem> items = new ArrayList<>(ids.size() + 1);
+        ids.forEach(id -> items.add(markRead(userId, id)));
+        items.add(counterRepository.adjustUnread(userId, -ids.size()));
+        try {
+            transact(items.toArray(TransactWriteItem[]::new));
+            return ids.size();
+        } catch (TransactionCanceledException e) {
+            if (!conditionFailed(e) && !hasReason(e, "TransactionConflict")) {
+                throw e;
+            }
+            int marked = 0;
+            for (String id : ids) {
+                if (markAsRead(userId, id)) {
+                    marked++;
+                }
+            }
+            return marked;
+        }
+    }
+
+    private static TransactWriteItem markRead(UUID userId, String id) {
+        return TransactWriteItem.builder()
+                .update(Update.builder()
+                        .tableName(TABLE_NAME)
+                        .key(key(userId, id))
+                        .updateExpression("SET #read = :true")
+                        .conditionExpression("#read = :false")
+                        .expressionAttributeNames(READ_NAME)
+                        .expressionAttributeValues(Map.of(
+                                ":true", AttributeValue.fromBool(true),
+                                ":false", AttributeValue.fromBool(false)))
+                        .build())
+                .build();
+    }
+
+    // Base-table read by full key, strongly consistent
+    public Optional<Notification> findByKey(UUID userId, String id) {
+        return Optional.ofNullable(notificationTable.getItem(request -> request
+                .key(Key.builder().partitionValue(userId.toString()).sortValue(id).build())
+                .consistentRead(true)));
+    }
+
+    // Served by the id-index GSI, which is eventually consistent
     public Optional<Notification> findById(String id) {
-        Key key = Key.builder().partitionValue(id).build();
-        return Optional.ofNullable(notificationTable.getItem(key));
+        return notificationTable.index(Notification.ID_INDEX)
+                .query(QueryConditional.keyEqualTo(Key.builder().partitionValue(id).build()))
+                .stream()
+                .flatMap(page -> page.items().stream())
+                .findFirst();
     }
 
     public List<Notification> findByUserId(UUID userId) {
-        return notificationTable.scan()
+        return notificationTable.query(newestFirst(userId).build())
                 .items()
                 .stream()
-                .filter(notification -> notification.getUserId().equals(userId))
                 .collect(Collectors.toList());
     }
 
     public List<Notification> findByUserIdAndPriority(UUID userId, NotificationPriority priority) {
-        return notificationTable.scan()
+        return notificationTable.query(newestFirst(userId).filterExpression(priorityIs(priority)).build())
                 .items()
                 .stream()
-                .filter(notification -> notification.getUserId().equals(userId) &&
-                        notification.getPriority() == priority)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Deletes a notification, decrementing the unread counter if it had not been read yet.
+     */
     public void delete(Notification notification) {
-        Key key = Key.builder().partitionValue(notification.getId()).build();
-        notificationTable.deleteItem(key);
+        TransactWriteItem deleteUnread = TransactWriteItem.builder()
+                .delete(Delete.builder()
+                        .tableName(TABLE_NAME)
+                        .key(key(notification))
+                        .conditionExpression("#read = :false")
+                        .expressionAttributeNames(READ_NAME)
+                        .expressionAttributeValues(Map.of(":false", AttributeValue.fromBool(false)))
+                        .build())
+                .build();
+        try {
+            transact(deleteUnread, counterRepository.adjustUnread(notification.getUserId(), -1));
+        } catch (TransactionCanceledException e) {
+            if (!conditionFailed(e)) {
+                throw e;
+            }
+            // Already read (or already gone), so there is no counter to adjust
+            notificationTable.deleteItem(Key.builder()
+                    .partitionValue(notification.getUserId().toString())
+                    .sortValue(notification.getId())
+                    .build());
+        }
     }
 
     public List<Notification> findAll() {
@@ -71,4 +258,44 @@ public class NotificationRepository {
                 .filter(notification -> notification.getPriority() == priority)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    private void transact(TransactWriteItem... items) {
+        dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                .transactItems(items)
+                .build());
+    }
+
+    private static boolean conditionFailed(TransactionCanceledException e) {
+        return hasReason(e, "ConditionalCheckFailed");
+    }
+
+    private static boolean hasReason(TransactionCanceledException e, String code) {
+        return e.hasCancellationReasons() && e.cancellationReasons().stream()
+                .map(CancellationReason::code)
+                .anyMatch(code::equals);
+    }
+
+    private static Map<String, AttributeValue> key(Notification notification) {
+        return key(notification.getUserId(), notification.getId());
+    }
+
+    private static Map<String, AttributeValue> key(UUID userId, String id) {
+        return Map.of(
+                "userId", AttributeValue.fromS(userId.toString()),
+                "id", AttributeValue.fromS(id));
+    }
+
+    static QueryEnhancedRequest.Builder newestFirst(UUID userId) {
+        return QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(userId.toString()).build()))
+                .scanIndexForward(false);
+    }
+
+    static Expression priorityIs(NotificationPriority priority) {
+        return Expression.builder()
+                .expression("#priority = :priority")
+                .expressionNames(Map.of("#priority", "priority"))
+                .expressionValues(Map.of(":priority", AttributeValue.fromS(priority.name())))
+                .build();
+    }
+}
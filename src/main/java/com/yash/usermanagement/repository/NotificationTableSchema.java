@@ -0,0 +1,58 @@
+package com.yash.usermanagement.repository;
+
+import com.yash.usermanagement.model.Notification;
+import com.yash.usermanagement.model.NotificationPriority;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primarySortKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondaryPartitionKey;
+
+/**
+ * Hand-built mapping of {@link Notification} to its DynamoDB item. Unlike {@code TableSchema.fromBean} it
+ * needs no bean introspection or LambdaMetafactory at runtime, so it works unchanged in a native image.
+ * Attribute names are the ones {@code fromBean} produced, so existing items read back as before.
+ * A new {@link Notification} field must be added here to be stored.
+ */
+public final class NotificationTableSchema {
+
+    public static final TableSchema<Notification> SCHEMA = StaticTableSchema.builder(Notification.class)
+            .newItemSupplier(Notification::new)
+            .addAttribute(UUID.class, a -> a.name("userId")
+                    .getter(Notification::getUserId)
+                    .setter(Notification::setUserId)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("id")
+                    .getter(Notification::getId)
+                    .setter(Notification::setId)
+                    .tags(primarySortKey(), secondaryPartitionKey(Notification.ID_INDEX)))
+            .addAttribute(String.class, a -> a.name("title")
+                    .getter(Notification::getTitle)
+                    .setter(Notification::setTitle))
+            .addAttribute(String.class, a -> a.name("message")
+                    .getter(Notification::getMessage)
+                    .setter(Notification::setMessage))
+            .addAttribute(LocalDateTime.class, a -> a.name("timestamp")
+                    .getter(Notification::getTimestamp)
+                    .setter(Notification::setTimestamp))
+            .addAttribute(NotificationPriority.class, a -> a.name("priority")
+                    .getter(Notification::getPriority)
+                    .setter(Notification::setPriority))
+            .addAttribute(LocalDateTime.class, a -> a.name("createdAt")
+                    .getter(Notification::getCreatedAt)
+                    .setter(Notification::setCreatedAt))
+            .addAttribute(Boolean.class, a -> a.name("read")
+                    .getter(Notification::isRead)
+                    .setter((notification, read) -> notification.setRead(Boolean.TRUE.equals(read))))
+            .addAttribute(Long.class, a -> a.name("expiresAt")
+                    .getter(Notification::getExpiresAt)
+                    .setter(Notification::setExpiresAt))
+            .build();
+
+    private NotificationTableSchema() {
+    }
+}
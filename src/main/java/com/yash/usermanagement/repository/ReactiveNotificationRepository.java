@@ -0,0 +1,55 @@
+package com.yash.usermanagement.repository;
+
+import com.yash.usermanagement.model.Notification;
+import com.yash.usermanagement.model.NotificationPriority;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of {@link NotificationRepository} backed by the DynamoDB async client.
+ * Results are emitted on SDK response threads, so callers must not block inside the pipeline.
+ */
+@Singleton
+public class ReactiveNotificationRepository {
+    private final DynamoDbAsyncTable<Notification> notificationTable;
+
+    public ReactiveNotificationRepository(DynamoDbEnhancedAsyncClient enhancedAsyncClient) {
+        this.notificationTable = enhancedAsyncClient.table(NotificationRepository.TABLE_NAME,
+                NotificationTableSchema.SCHEMA);
+    }
+
+    public Mono<Notification> findById(String id) {
+        return Flux.from(notificationTable.index(Notification.ID_INDEX)
+                        .query(QueryConditional.keyEqualTo(Key.builder().partitionValue(id).build())))
+                .flatMapIterable(Page::items)
+                .next();
+    }
+
+    public Publisher<Notification> findByUserId(UUID userId) {
+        return Flux.from(notificationTable.query(NotificationRepository.newestFirst(userId).build()).items());
+    }
+
+    public Publisher<Notification> findByUserIdAndPriority(UUID userId, NotificationPriority priority) {
+        return Flux.from(notificationTable.query(NotificationRepository.newestFirst(userId)
+                .filterExpression(NotificationRepository.priorityIs(priority))
+                .build()).items());
+    }
+
+    public Publisher<Notification> findAll() {
+        return Flux.from(notificationTable.scan().items());
+    }
+
+    public Publisher<Notification> findByPriority(NotificationPriority priority) {
+        return Flux.from(notificationTable.scan().items())
+                .filter(notification -> notification.getPriority() == priority);
+    }
+}
@@ -1,20 +1,33 @@
 package com.yash.usermanagement.repository;
 
+import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.annotation.Join;
 import io.micronaut.data.jdbc.annotation.JdbcRepository;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.repository.CrudRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import jakarta.inject.Singleton;
 
+import com.yash.usermanagement.dto.UserCredentials;
+import com.yash.usermanagement.dto.UserRecipient;
+import com.yash.usermanagement.dto.UserView;
 import com.yash.usermanagement.model.User;
 
 @JdbcRepository(dialect = Dialect.POSTGRES)
 @Singleton
 public interface UserRepository extends CrudRepository<User, UUID> {
+
+    // Read paths select only the columns they use into records; the entity methods below are for writes
+    String USER_VIEW = "SELECT u.id, u.first_name, u.last_name, u.email, u.date_of_birth, u.phone_number,"
+            + " u.gender, u.role, a.id AS address_id, a.st_address AS street_address, a.city, a.state,"
+            + " a.postal_code, a.country, a.address_type, a.address_default AS default_address"
+            + " FROM users u LEFT JOIN addresses a ON a.id = u.address_id";
+    String RECIPIENT = "SELECT id, email, first_name, last_name, role FROM users";
+
     @Join(value = "address", type = Join.Type.LEFT_FETCH)
     Optional<User> findByEmail(String email);
 
@@ -25,4 +38,31 @@ public interface UserRepository extends CrudRepository<User, UUID> {
 
     @Join(value = "address", type = Join.Type.LEFT_FETCH)
     List<User> findAll();
-}
\ No newline at end of file
+
+    @Query(USER_VIEW)
+    List<UserView> findAllViews();
+
+    @Query(USER_VIEW + " WHERE u.id = :id")
+    Optional<UserView> findViewById(UUID id);
+
+    @Query(USER_VIEW + " WHERE u.email = :email")
+    Optional<UserView> findViewByEmail(String email);
+
+    @Query("SELECT id, email, password, role, first_name, last_name FROM users WHERE email = :email")
+    Optional<UserCredentials> findCredentialsByEmail(String email);
+
+    @Query(RECIPIENT + " WHERE id = :id")
+    Optional<UserRecipient> findRecipientById(UUID id);
+
+    @Query(RECIPIENT + " WHERE id IN (:ids)")
+    List<UserRecipient> findRecipientsByIdIn(Collection<UUID> ids);
+
+    /**
+     * @param role a {@link com.yash.usermanagement.model.UserRole} name, as stored
+     */
+    @Query(RECIPIENT + " WHERE role = :role")
+    List<UserRecipient> findRecipientsByRole(String role);
+
+    @Query(RECIPIENT)
+    List<UserRecipient> findAllRecipients();
+}
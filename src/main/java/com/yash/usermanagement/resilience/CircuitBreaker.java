@@ -0,0 +1,129 @@
+package com.yash.usermanagement.resilience;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Consecutive-failure circuit breaker. After {@code failureThreshold} failures the circuit opens;
+ * once {@code openDuration} has elapsed a limited number of half-open probes are let through and
+ * the first probe outcome decides whether the circuit closes again or re-opens.
+ * <p>
+ * Permits carry the generation of the state they were granted in. An outcome reported after the
+ * state changed, e.g. a slow call admitted while closed that finishes during half-open, is ignored.
+ */
+public class CircuitBreaker {
+
+    /** Returned by {@link #tryAcquire()} when the call may not proceed. */
+    public static final long REJECTED = 0;
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+    private final BiConsumer<State, State> transitionListener;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int probesInFlight;
+    private long openedAt;
+    private long generation = 1;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, int halfOpenProbes,
+            BiConsumer<State, State> transitionListener) {
+        this(failureThreshold, openDuration, halfOpenProbes, System::nanoTime, transitionListener);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, int halfOpenProbes, LongSupplier nanoClock,
+            BiConsumer<State, State> transitionListener) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.nanoClock = nanoClock;
+        this.transitionListener = transitionListener;
+    }
+
+    /**
+     * Returns a permit if a call may proceed, or {@link #REJECTED}. Every permitted call must be
+     * completed with {@link #onSuccess(long)}, {@link #onFailure(long)} or {@link #onIgnored(long)}.
+     */
+    public synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return REJECTED;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                return REJECTED;
+            }
+            probesInFlight++;
+        }
+        return generation;
+    }
+
+    public synchronized void onSuccess(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            probesInFlight = 0;
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    public synchronized void onFailure(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            probesInFlight = 0;
+            open();
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * Releases a permit without recording an outcome, e.g. when the call was shed by the bulkhead.
+     */
+    public synchronized void onIgnored(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void open() {
+        openedAt = nanoClock.getAsLong();
+        consecutiveFailures = 0;
+        transitionTo(State.OPEN);
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        if (previous == next) {
+            return;
+        }
+        state = next;
+        generation++;
+        transitionListener.accept(previous, next);
+    }
+}
@@ -0,0 +1,259 @@
+package com.yash.usermanagement.resilience;
+
+import com.yash.usermanagement.exception.DependencyUnavailableException;
+import com.yash.usermanagement.exception.TransientDependencyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Isolates calls to a single external dependency (SendGrid, FCM, Gemini) behind a bounded
+ * executor (bulkhead), a per-call timeout, a circuit breaker and jittered retries.
+ */
+public class DependencyGuard {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DependencyGuard.class);
+
+    private final String name;
+    private final ResilienceConfig config;
+    private final CircuitBreaker circuitBreaker;
+    private final ThreadPoolExecutor bulkhead;
+    private final Semaphore asyncPermits;
+    private final MeterRegistry meterRegistry;
+    private final Counter retries;
+
+    public DependencyGuard(ResilienceConfig config, MeterRegistry meterRegistry) {
+        this.name = config.getName();
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = new CircuitBreaker(config.getFailureThreshold(), config.getOpenDuration(),
+                config.getHalfOpenProbes(), this::onTransition);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.bulkhead = new ThreadPoolExecutor(config.getMaxConcurrentCalls(), config.getMaxConcurrentCalls(),
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(Math.max(1, config.getMaxQueuedCalls())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "resilience-" + name + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.bulkhead.allowCoreThreadTimeOut(true);
+        this.asyncPermits = new Semaphore(config.getMaxConcurrentCalls() + Math.max(1, config.getMaxQueuedCalls()));
+        this.retries = Counter.builder("resilience.retries")
+                .tag("dependency", name)
+                .register(meterRegistry);
+        Gauge.builder("resilience.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .tag("dependency", name)
+                .description("0 = closed, 1 = open, 2 = half-open")
+                .register(meterRegistry);
+        Gauge.builder("resilience.bulkhead.queued", bulkhead, executor -> executor.getQueue().size())
+                .tag("dependency", name)
+                .register(meterRegistry);
+        Gauge.builder("resilience.bulkhead.active", bulkhead, ThreadPoolExecutor::getActiveCount)
+                .tag("dependency", name)
+                .register(meterRegistry);
+        Gauge.builder("resilience.bulkhead.async.available", asyncPermits, Semaphore::availablePermits)
+                .tag("dependency", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * Runs the action on this dependency's bulkhead. Idempotent actions are retried on any failure;
+     * non-idempotent ones only when they fail with {@link TransientDependencyException}.
+     *
+     * @throws DependencyUnavailableException if the circuit is open, the bulkhead is full or all attempts failed
+     */
+    public <T> T call(Callable<T> action, boolean idempotent) {
+        int maxAttempts = Math.max(1, config.getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return attempt(action);
+            } catch (AttemptFailedException e) {
+                Throwable cause = e.getCause();
+                boolean retryable = idempotent || cause instanceof TransientDependencyException;
+                if (!retryable || attempt >= maxAttempts) {
+                    throw new DependencyUnavailableException(
+                            name + " call failed after " + attempt + " attempt(s): " + cause.getMessage(), cause);
+                }
+                retries.increment();
+                LOG.warn("[RESILIENCE] {} attempt {} failed ({}), retrying", name, attempt, cause.getMessage());
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #call(Callable, boolean)} for clients that already return futures.
+     * The bulkhead is a cap on in-flight calls instead of a thread pool, and a timed-out call is cancelled.
+     */
+    public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> action, boolean idempotent) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attemptAsync(action, idempotent, 1, result);
+        return result;
+    }
+
+    private <T> void attemptAsync(Supplier<CompletableFuture<T>> action, boolean idempotent, int attempt,
+            CompletableFuture<T> result) {
+        long permit = circuitBreaker.tryAcquire();
+        if (permit == CircuitBreaker.REJECTED) {
+            reject("circuit_open");
+            result.completeExceptionally(new DependencyUnavailableException(name + " circuit breaker is open"));
+            return;
+        }
+        if (!asyncPermits.tryAcquire()) {
+            circuitBreaker.onIgnored(permit);
+            reject("bulkhead_full");
+            result.completeExceptionally(new DependencyUnavailableException(name + " bulkhead is full"));
+            return;
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<T> call;
+        try {
+            call = action.get();
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<T> inFlight = call;
+        CompletableFuture.delayedExecutor(config.getTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .execute(() -> inFlight.cancel(true));
+
+        inFlight.whenComplete((value, error) -> {
+            asyncPermits.release();
+            if (error == null) {
+                circuitBreaker.onSuccess(permit);
+                record(start, "success");
+                result.complete(value);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof CancellationException) {
+                cause = new TimeoutException(name + " call timed out after " + config.getTimeout().toMillis() + " ms");
+                record(start, "timeout");
+            } else {
+                record(start, "failure");
+            }
+            circuitBreaker.onFailure(permit);
+
+            boolean retryable = idempotent || cause instanceof TransientDependencyException;
+            if (!retryable || attempt >= Math.max(1, config.getMaxAttempts())) {
+                result.completeExceptionally(new DependencyUnavailableException(
+                        name + " call failed after " + attempt + " attempt(s): " + cause.getMessage(), cause));
+                return;
+            }
+            retries.increment();
+            LOG.warn("[RESILIENCE] {} attempt {} failed ({}), retrying", name, attempt, cause.getMessage());
+            CompletableFuture.delayedExecutor(backoffMillis(attempt), TimeUnit.MILLISECONDS)
+                    .execute(() -> attemptAsync(action, idempotent, attempt + 1, result));
+        });
+    }
+
+    private <T> T attempt(Callable<T> action) {
+        long permit = circuitBreaker.tryAcquire();
+        if (permit == CircuitBreaker.REJECTED) {
+            reject("circuit_open");
+            throw new DependencyUnavailableException(name + " circuit breaker is open");
+        }
+        Future<T> future;
+        try {
+            future = bulkhead.submit(action);
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.onIgnored(permit);
+            reject("bulkhead_full");
+            throw new DependencyUnavailableException(name + " bulkhead is full", e);
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = future.get(config.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess(permit);
+            record(start, "success");
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onFailure(permit);
+            record(start, "timeout");
+            throw new AttemptFailedException(
+                    new TimeoutException(name + " call timed out after " + config.getTimeout().toMillis() + " ms"));
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure(permit);
+            record(start, "failure");
+            throw new AttemptFailedException(e.getCause() != null ? e.getCause() : e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            circuitBreaker.onIgnored(permit);
+            Thread.currentThread().interrupt();
+            throw new DependencyUnavailableException(name + " call interrupted", e);
+        }
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(backoffMillis(attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DependencyUnavailableException(name + " retry interrupted", e);
+        }
+    }
+
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(config.getMaxBackoff().toMillis(),
+                config.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void onTransition(CircuitBreaker.State from, CircuitBreaker.State to) {
+        LOG.warn("[RESILIENCE] {} circuit breaker {} -> {}", name, from, to);
+        meterRegistry.counter("resilience.circuit.transitions",
+                "dependency", name, "from", from.name(), "to", to.name()).increment();
+    }
+
+    private void reject(String reason) {
+        meterRegistry.counter("resilience.calls.rejected", "dependency", name, "reason", reason).increment();
+    }
+
+    private void record(long startNanos, String outcome) {
+        Timer.builder("resilience.calls")
+                .tag("dependency", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void shutdown() {
+        bulkhead.shutdownNow();
+    }
+
+    private static final class AttemptFailedException extends RuntimeException {
+        AttemptFailedException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
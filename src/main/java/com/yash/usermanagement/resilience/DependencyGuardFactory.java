@@ -0,0 +1,16 @@
+package com.yash.usermanagement.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Factory;
+
+@Factory
+public class DependencyGuardFactory {
+
+    @EachBean(ResilienceConfig.class)
+    @Bean(preDestroy = "shutdown")
+    DependencyGuard dependencyGuard(ResilienceConfig config, MeterRegistry meterRegistry) {
+        return new DependencyGuard(config, meterRegistry);
+    }
+}
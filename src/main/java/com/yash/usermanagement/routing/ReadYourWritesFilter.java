@@ -0,0 +1,35 @@
+package com.yash.usermanagement.routing;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+
+import java.security.Principal;
+
+/**
+ * Pins the principal of every successful write request to the primary for {@code read-replica.pin-after-write},
+ * covering user, address and password change writes alike.
+ */
+@ServerFilter(ServerFilter.MATCH_ALL_PATTERN)
+@Requires(property = "read-replica.enabled", value = StringUtils.TRUE)
+public class ReadYourWritesFilter {
+
+    private final ReplicaRouting routing;
+
+    public ReadYourWritesFilter(ReplicaRouting routing) {
+        this.routing = routing;
+    }
+
+    @ResponseFilter
+    public void pinAfterWrite(HttpRequest<?> request, MutableHttpResponse<?> response) {
+        HttpMethod method = request.getMethod();
+        if (method == HttpMethod.GET || method == HttpMethod.HEAD || response.code() >= 400) {
+            return;
+        }
+        request.getUserPrincipal().map(Principal::getName).ifPresent(routing::pinAfterWrite);
+    }
+}
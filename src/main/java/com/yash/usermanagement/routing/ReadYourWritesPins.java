@@ -0,0 +1,56 @@
+package com.yash.usermanagement.routing;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Principals that wrote recently, each until its pin expires. Reads of a pinned principal stay on the primary,
+ * so a client does not read its own write back from a replica that has not replayed it yet.
+ */
+public class ReadYourWritesPins {
+
+    private final long pinNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> expiries = new ConcurrentHashMap<>();
+
+    public ReadYourWritesPins(Duration pinAfterWrite) {
+        this(pinAfterWrite, System::nanoTime);
+    }
+
+    ReadYourWritesPins(Duration pinAfterWrite, LongSupplier nanoClock) {
+        this.pinNanos = pinAfterWrite.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public void pin(String principal) {
+        if (pinNanos > 0) {
+            expiries.put(principal, nanoClock.getAsLong() + pinNanos);
+        }
+    }
+
+    public boolean isPinned(String principal) {
+        Long expiry = expiries.get(principal);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry - nanoClock.getAsLong() > 0) {
+            return true;
+        }
+        expiries.remove(principal, expiry);
+        return false;
+    }
+
+    /**
+     * Drops expired pins of principals that did not read again.
+     */
+    public void evictExpired() {
+        long now = nanoClock.getAsLong();
+        expiries.values().removeIf(expiry -> expiry - now <= 0);
+    }
+
+    public int size() {
+        return expiries.size();
+    }
+}
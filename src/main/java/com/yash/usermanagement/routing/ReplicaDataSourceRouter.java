@@ -0,0 +1,52 @@
+package com.yash.usermanagement.routing;
+
+import com.yash.usermanagement.config.ReadReplicaConfig;
+import com.yash.usermanagement.resilience.CircuitBreaker;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the {@code default} datasource in a {@link ReplicaRoutingDataSource}, so the repositories, which are
+ * all bound to {@code default}, read from the replica inside {@code @ReplicaRead} methods. Runs before other
+ * datasource listeners so that transaction handling sees the routing datasource; Hikari stays reachable
+ * through {@link DataSource#unwrap}.
+ */
+@Singleton
+@Requires(property = "read-replica.enabled", value = StringUtils.TRUE)
+public class ReplicaDataSourceRouter implements BeanCreatedEventListener<DataSource>, Ordered {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReplicaDataSourceRouter.class);
+
+    private final ReadReplicaConfig config;
+    private final BeanProvider<DataSource> replica;
+
+    public ReplicaDataSourceRouter(ReadReplicaConfig config, @Named("replica") BeanProvider<DataSource> replica) {
+        this.config = config;
+        this.replica = replica;
+    }
+
+    @Override
+    public DataSource onCreated(BeanCreatedEvent<DataSource> event) {
+        if (!"default".equals(event.getBeanIdentifier().getName())) {
+            return event.getBean();
+        }
+        CircuitBreaker breaker = new CircuitBreaker(config.getFailureThreshold(), config.getOpenDuration(), 1,
+                (from, to) -> LOG.warn("Replica reads {} -> {}", from, to));
+        return new ReplicaRoutingDataSource(event.getBean(), replica::get, breaker);
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+}
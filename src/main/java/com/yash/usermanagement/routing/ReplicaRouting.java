@@ -0,0 +1,93 @@
+package com.yash.usermanagement.routing;
+
+import com.yash.usermanagement.config.ReadReplicaConfig;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.context.ServerRequestContext;
+import io.micronaut.scheduling.annotation.Scheduled;
+import io.micronaut.transaction.TransactionOperations;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import java.security.Principal;
+import java.sql.Connection;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Decides whether a {@code @ReplicaRead} call may read from the replica and carries that decision to
+ * {@link ReplicaRoutingDataSource} on the calling thread. Everything else, including every write, uses the
+ * primary.
+ */
+@Singleton
+public class ReplicaRouting {
+
+    private static final ThreadLocal<Boolean> REPLICA = new ThreadLocal<>();
+
+    private final ReadReplicaConfig config;
+    private final BeanProvider<TransactionOperations<Connection>> transactions;
+    private final ReadYourWritesPins pins;
+
+    public ReplicaRouting(ReadReplicaConfig config,
+            @Named("default") BeanProvider<TransactionOperations<Connection>> transactions) {
+        this.config = config;
+        this.transactions = transactions;
+        this.pins = new ReadYourWritesPins(config.getPinAfterWrite());
+    }
+
+    /**
+     * The replica is skipped inside a transaction, whose connection is already on the primary, during a
+     * request that is not a GET or HEAD, and for a principal pinned by a recent write.
+     */
+    public boolean replicaAllowed() {
+        if (!config.isEnabled()) {
+            return false;
+        }
+        if (isReplicaRead()) {
+            return true;
+        }
+        if (transactions.get().findTransactionStatus().isPresent()) {
+            return false;
+        }
+        Optional<HttpRequest<Object>> request = ServerRequestContext.currentRequest();
+        if (request.isEmpty()) {
+            return true;
+        }
+        HttpMethod method = request.get().getMethod();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return false;
+        }
+        return request.get().getUserPrincipal()
+                .map(Principal::getName)
+                .map(name -> !pins.isPinned(name))
+                .orElse(true);
+    }
+
+    public Object onReplica(Supplier<Object> call) {
+        if (isReplicaRead()) {
+            return call.get();
+        }
+        REPLICA.set(Boolean.TRUE);
+        try {
+            return call.get();
+        } finally {
+            REPLICA.remove();
+        }
+    }
+
+    public void pinAfterWrite(String principal) {
+        pins.pin(principal);
+    }
+
+    @Scheduled(fixedDelay = "1m")
+    void evictExpiredPins() {
+        if (config.isEnabled()) {
+            pins.evictExpired();
+        }
+    }
+
+    static boolean isReplicaRead() {
+        return REPLICA.get() != null;
+    }
+}
@@ -0,0 +1,91 @@
+package com.yash.usermanagement.routing;
+
+import com.yash.usermanagement.resilience.CircuitBreaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.function.Supplier;
+
+/**
+ * Stands in for the {@code default} datasource. Connections taken inside {@link ReplicaRouting#onReplica}
+ * come from the replica, all others from the primary. When the replica cannot hand out connections, the
+ * breaker opens and those reads use the primary until it closes again.
+ */
+public class ReplicaRoutingDataSource implements DataSource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final Supplier<DataSource> replica;
+    private final CircuitBreaker breaker;
+
+    public ReplicaRoutingDataSource(DataSource primary, Supplier<DataSource> replica, CircuitBreaker breaker) {
+        this.primary = primary;
+        this.replica = replica;
+        this.breaker = breaker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long permit = ReplicaRouting.isReplicaRead() ? breaker.tryAcquire() : CircuitBreaker.REJECTED;
+        if (permit != CircuitBreaker.REJECTED) {
+            try {
+                Connection connection = replica.get().getConnection();
+                breaker.onSuccess(permit);
+                return connection;
+            } catch (SQLException e) {
+                breaker.onFailure(permit);
+                LOG.warn("Replica connection failed, reading from the primary: {}", e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        primary.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        primary.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return primary.getParentLogger();
+    }
+}
@@ -0,0 +1,23 @@
+package com.yash.usermanagement.service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs notification side effects (persisting, email, push) off the request thread,
+ * so HTTP latency does not depend on SendGrid or FCM.
+ */
+public interface NotificationDispatcher {
+
+    /**
+     * Queues the task. The future completes when the task has run; it fails if the task
+     * throws or is rejected by a full queue.
+     */
+    CompletableFuture<Void> dispatch(String name, Runnable task);
+
+    /**
+     * Queues the task without tracking it. Failures are logged by the dispatcher.
+     */
+    default void fireAndForget(String name, Runnable task) {
+        dispatch(name, task);
+    }
+}
@@ -0,0 +1,23 @@
+package com.yash.usermanagement.service;
+
+import com.yash.usermanagement.model.Notification;
+import com.yash.usermanagement.model.NotificationPriority;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking read side for notifications. Writes and sends stay on {@link NotificationService}.
+ */
+public interface NotificationQueryService {
+    Publisher<Notification> getAllNotifications();
+
+    Mono<Notification> getNotificationById(String id);
+
+    Publisher<Notification> getNotificationsByUserId(UUID userId);
+
+    Publisher<Notification> getNotificationsByUserIdAndPriority(UUID userId, NotificationPriority priority);
+
+    Mono<Long> getUnreadCount(UUID userId);
+}
@@ -43,4 +43,6 @@ public interface NotificationService {
     void sendAccountDeletionNotification(UUID userId, String email);
 
     void markNotificationAsRead(String id);
+
+    int markAllNotificationsAsRead(UUID userId);
 }
\ No newline at end of file
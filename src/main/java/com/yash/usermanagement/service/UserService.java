@@ -1,9 +1,13 @@
 package com.yash.usermanagement.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.yash.usermanagement.dto.UserCredentials;
+import com.yash.usermanagement.dto.UserRecipient;
+import com.yash.usermanagement.dto.UserView;
 import com.yash.usermanagement.model.User;
 import com.yash.usermanagement.model.PasswordChangeRequest;
 import com.yash.usermanagement.model.PasswordChangeStatus;
@@ -15,6 +19,16 @@ public interface UserService {
 
     User getUserById(UUID id);
 
+    List<UserView> listUsers();
+
+    UserView getUserViewById(UUID id);
+
+    Optional<UserView> findUserViewByEmail(String email);
+
+    Optional<UserCredentials> findCredentialsByEmail(String email);
+
+    List<UserRecipient> getRecipients(Collection<UUID> ids);
+
     User updateUser(UUID id, User user);
 
     void deleteUser(UUID id);
@@ -2,8 +2,8 @@ package com.yash.usermanagement.service.impl;
 
 import com.yash.usermanagement.dto.LoginRequestDTO;
 import com.yash.usermanagement.dto.LoginResponseDTO;
+import com.yash.usermanagement.dto.UserCredentials;
 import com.yash.usermanagement.exception.AuthenticationException;
-import com.yash.usermanagement.model.User;
 import com.yash.usermanagement.service.AuthenticationService;
 import com.yash.usermanagement.service.UserService;
 import io.micronaut.security.authentication.Authentication;
@@ -47,27 +47,27 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     public LoginResponseDTO login(LoginRequestDTO loginRequest) {
         LOG.info("Attempting login for user: {}", loginRequest.getEmail());
         try {
-            // Find user by email
-            Optional<User> userOpt = userService.getUserByEmail(loginRequest.getEmail());
+            // One narrow query for the password and the token claims
+            Optional<UserCredentials> userOpt = userService.findCredentialsByEmail(loginRequest.getEmail());
             if (userOpt.isEmpty()) {
                 throw new AuthenticationException("Invalid email or password");
             }
 
-            User user = userOpt.get();
+            UserCredentials user = userOpt.get();
 
             // Validate password
-            if (!userService.validateCurrentPassword(user.getId(), loginRequest.getPassword())) {
+            if (!loginRequest.getPassword().equals(user.password())) {
                 throw new AuthenticationException("Invalid email or password");
             }
 
             // Generate JWT token
             Map<String, Object> claims = new HashMap<>();
-            claims.put("sub", user.getEmail());
-            claims.put("userId", user.getId().toString());
-            claims.put("email", user.getEmail());
-            claims.put("roles", user.getRole().toString());
-            claims.put("firstname", user.getFirstName());
-            claims.put("lastname", user.getLastName());
+            claims.put("sub", user.email());
+            claims.put("userId", user.id().toString());
+            claims.put("email", user.email());
+            claims.put("roles", user.role().toString());
+            claims.put("firstname", user.firstName());
+            claims.put("lastname", user.lastName());
             // claims.put("iat", System.currentTimeMillis() / 1000);
             // claims.put("exp", (System.currentTimeMillis() / 1000) + 3600);
             LOG.info("Generated token claims: {}", claims);
@@ -81,13 +81,13 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             LoginResponseDTO response = new LoginResponseDTO();
             response.setAccessToken(tokenOpt.get());
             response.setTokenType("Bearer");
-            response.setUserId(user.getId());
-            response.setEmail(user.getEmail());
-            response.setRole(user.getRole().toString());
-            response.setFirstName(user.getFirstName());
-            response.setLastName(user.getLastName());
+            response.setUserId(user.id());
+            response.setEmail(user.email());
+            response.setRole(user.role().toString());
+            response.setFirstName(user.firstName());
+            response.setLastName(user.lastName());
 
-            LOG.info("Login successful for user: {} with role: {}", user.getEmail(), user.getRole());
+            LOG.info("Login successful for user: {} with role: {}", user.email(), user.role());
             return response;
 
         } catch (AuthenticationException e) {
@@ -1,22 +1,35 @@
 package com.yash.usermanagement.service.impl;
 
+import com.yash.usermanagement.delivery.DeliveryScheduler;
+import com.yash.usermanagement.delivery.NotificationCoalescer;
+import com.yash.usermanagement.delivery.NotificationDigestService;
+import com.yash.usermanagement.config.NotificationDigestConfig;
+import com.yash.usermanagement.model.DigestItem;
+import com.yash.usermanagement.dto.UserRecipient;
 import com.yash.usermanagement.exception.ResourceNotFoundException;
 import com.yash.usermanagement.model.Notification;
 import com.yash.usermanagement.model.NotificationPriority;
-import com.yash.usermanagement.model.User;
+import com.yash.usermanagement.model.UserRole;
 import com.yash.usermanagement.repository.NotificationRepository;
 import com.yash.usermanagement.repository.UserRepository;
 import com.yash.usermanagement.service.NotificationService;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import com.yash.usermanagement.config.SendGridConfig;
 import com.yash.usermanagement.service.impl.SendGridEmailService;
 import com.yash.usermanagement.service.GeminiService;
+import com.yash.usermanagement.template.EmailContent;
+import com.yash.usermanagement.template.EmailTemplateEngine;
+import com.yash.usermanagement.template.EmailTemplateName;
+import com.yash.usermanagement.template.PreparedEmail;
+import com.yash.usermanagement.util.Ulid;
 import jakarta.inject.Named;
+import java.util.Map;
 
 @Named("email")
 public class EmailNotificationService implements NotificationService {
@@ -30,27 +43,42 @@ public class EmailNotificationService implements NotificationService {
     private final SendGridEmailService sendGridEmailService;
     private final SendGridConfig sendGridConfig;
     private final GeminiService geminiService;
+    private final EmailTemplateEngine emailTemplateEngine;
+    private final DeliveryScheduler emailDelivery;
+    private final NotificationCoalescer notificationCoalescer;
+    private final NotificationDigestService digestService;
+    private final NotificationDigestConfig digestConfig;
 
     public EmailNotificationService(
             NotificationRepository notificationRepository,
             UserRepository userRepository,
             SendGridEmailService sendGridEmailService,
             SendGridConfig sendGridConfig,
-            GeminiService geminiService) {
+            GeminiService geminiService,
+            EmailTemplateEngine emailTemplateEngine,
+            @Named("email") DeliveryScheduler emailDelivery,
+            NotificationCoalescer notificationCoalescer,
+            NotificationDigestService digestService,
+            NotificationDigestConfig digestConfig) {
         this.notificationRepository = notificationRepository;
         this.userRepository = userRepository;
         this.sendGridEmailService = sendGridEmailService;
         this.sendGridConfig = sendGridConfig;
         this.geminiService = geminiService;
+        this.emailTemplateEngine = emailTemplateEngine;
+        this.emailDelivery = emailDelivery;
+        this.notificationCoalescer = notificationCoalescer;
+        this.digestService = digestService;
+        this.digestConfig = digestConfig;
     }
 
     @Override
     public Notification createNotification(Notification notification) {
         // Validate user exists
-        User user = userRepository.findById(notification.getUserId())
-                .orElseThrow(
-                        () -> new ResourceNotFoundException("User not found with id: " + notification.getUserId()));
-        notification.setId(UUID.randomUUID().toString());
+        if (!userRepository.existsById(notification.getUserId())) {
+            throw new ResourceNotFoundException("User not found with id: " + notification.getUserId());
+        }
+        notification.setId(Ulid.next());
         notification.setRead(false);
         notification.setCreatedAt(java.time.LocalDateTime.now());
         return notificationRepository.save(notification);
@@ -70,16 +98,18 @@ public class EmailNotificationService implements NotificationService {
 
     @Override
     public List<Notification> getNotificationsByUserId(UUID userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
         log.info("Fetching notifications for user: {}", userId);
         return notificationRepository.findByUserId(userId);
     }
 
     @Override
     public List<Notification> getNotificationsByUserIdAndPriority(UUID userId, NotificationPriority priority) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
         log.info("Fetching {} priority notifications for user: {}", priority, userId);
         return notificationRepository.findByUserIdAndPriority(userId, priority);
     }
@@ -94,7 +124,7 @@ public class EmailNotificationService implements NotificationService {
     public void sendUserCreationNotification(UUID userId, String email, String password) {
         log.info("Sending user creation notification to: {}", email);
         try {
-            User user = userRepository.findById(userId)
+            UserRecipient user = userRepository.findRecipientById(userId)
                     .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
             Notification notification = new Notification();
@@ -104,28 +134,15 @@ public class EmailNotificationService implements NotificationService {
             notification.setPriority(NotificationPriority.HIGH);
             notification.setRead(false);
             notification.setCreatedAt(java.time.LocalDateTime.now());
-            notificationRepository.save(notification);
-
-            String plainTextBody = "Welcome to User Management System!\n\n" +
-                    "Your account has been created successfully.\n" +
-                    "Your temporary password is: " + password + "\n\n" +
-                    "Please change your password after first login.";
-
-            String htmlBody = "<h2>Welcome to User Management System</h2><br>" +
-                    "<p>Your account has been created successfully.</p>" +
-                    "<p>Your temporary password is: <strong>" + password + "</strong></p>" +
-                    "<p>Please change your password after first login.</p>";
-
-            boolean emailSent = sendGridEmailService.sendEmail(
-                    user.getEmail(),
-                    "Welcome to User Management System",
-                    plainTextBody,
-                    htmlBody);
-
-            if (!emailSent) {
-                log.warn("Failed to send welcome email to user: {}", user.getEmail());
+            if (!saveCoalesced("user-creation", notification)) {
+                return;
             }
 
+            EmailContent content = emailTemplateEngine.render(EmailTemplateName.WELCOME,
+                    Map.of("password", String.valueOf(password)));
+
+            deliverEmail(NotificationPriority.HIGH, user.email(), "Welcome to User Management System", content);
+
         } catch (Exception e) {
             log.error("Error in sendUserCreationNotification for user: {}", userId, e);
             throw e;
@@ -136,7 +153,7 @@ public class EmailNotificationService implements NotificationService {
     public void sendPasswordResetRequestNotification(UUID userId, String email) {
         log.info("Sending password reset request notification for user: {}", userId);
         try {
-            User user = userRepository.findById(userId)
+            UserRecipient user = userRepository.findRecipientById(userId)
                     .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
             Notification notification = new Notification();
@@ -146,63 +163,44 @@ public class EmailNotificationService implements NotificationService {
             notification.setPriority(NotificationPriority.HIGH);
             notification.setRead(false);
             notification.setCreatedAt(java.time.LocalDateTime.now());
-            notificationRepository.save(notification);
+            if (!saveCoalesced("password-reset-request", notification)) {
+                return;
+            }
 
             // Send email to all admins in the system
-            List<User> admins = userRepository.findAll();
-            for (User admin : admins) {
-                if (admin.getRole() == com.yash.usermanagement.model.UserRole.ADMIN) {
-                    Notification adminNotification = new Notification();
-                    adminNotification.setUserId(admin.getId());
-                    adminNotification.setTitle("New Password Change Request");
-                    adminNotification.setMessage("A new password change request has been submitted by user: "
-                            + user.getFirstName() + " " + user.getLastName() + " (" + user.getEmail() + ")");
-                    adminNotification.setPriority(NotificationPriority.HIGH);
-                    adminNotification.setRead(false);
-                    adminNotification.setCreatedAt(java.time.LocalDateTime.now());
-                    notificationRepository.save(adminNotification);
-                }
+            List<UserRecipient> admins = userRepository.findRecipientsByRole(UserRole.ADMIN.name());
+            for (UserRecipient admin : admins) {
+                Notification adminNotification = new Notification();
+                adminNotification.setUserId(admin.id());
+                adminNotification.setTitle("New Password Change Request");
+                adminNotification.setMessage("A new password change request has been submitted by user: "
+                        + user.firstName() + " " + user.lastName() + " (" + user.email() + ")");
+                adminNotification.setPriority(NotificationPriority.HIGH);
+                adminNotification.setRead(false);
+                adminNotification.setCreatedAt(java.time.LocalDateTime.now());
+                notificationRepository.save(adminNotification);
             }
 
             // Send email to user
             String subject = "Password Reset Request";
-            String textContent = "A password reset has been requested for your account.\n" +
-                    "Please wait for admin approval.";
-            String htmlContent = "<h3>Password Reset Request</h3><br>" +
-                    "<p>A password reset has been requested for your account.</p><br>" +
-                    "<p>Please wait for admin approval.</p>";
-
-            sendGridEmailService.sendEmail(
-                    user.getEmail(),
-                    subject,
-                    textContent,
-                    htmlContent);
+            EmailContent content = emailTemplateEngine.render(EmailTemplateName.PASSWORD_RESET_REQUEST, Map.of());
+
+            deliverEmail(NotificationPriority.URGENT, user.email(), subject, content);
 
             // Send email to all admins in the system
             String adminSubject = "New Password Change Request";
-            String adminTextContent = "A new password change request has been submitted by user:\n" +
-                    "User ID: " + userId + "\n" +
-                    "User Name: " + user.getFirstName() + " " + user.getLastName() + "\n" +
-                    "User Email: " + user.getEmail() + "\n\n" +
-                    "Please review and take appropriate action.";
-            String adminHtmlContent = "<h3>New Password Change Request</h3><br>" +
-                    "<p>A new password change request has been submitted by user:</p>" +
-                    "<p><strong>User ID:</strong> " + userId + "</p>" +
-                    "<p><strong>User Name:</strong> " + user.getFirstName() + " " + user.getLastName() + "</p>" +
-                    "<p><strong>User Email:</strong> " + user.getEmail() + "</p><br>" +
-                    "<p>Please review and take appropriate action.</p>";
-
-            for (User admin : admins) {
-                if (admin.getRole() == com.yash.usermanagement.model.UserRole.ADMIN) {
-                    sendGridEmailService.sendEmail(
-                            admin.getEmail(),
-                            adminSubject,
-                            adminTextContent,
-                            adminHtmlContent);
-                }
+            EmailContent adminContent = emailTemplateEngine.render(EmailTemplateName.PASSWORD_RESET_REQUEST_ADMIN,
+                    Map.of(
+                            "userId", userId.toString(),
+                            "firstName", String.valueOf(user.firstName()),
+                            "lastName", String.valueOf(user.lastName()),
+                            "email", user.email()));
+
+            for (UserRecipient admin : admins) {
+                deliverEmail(NotificationPriority.HIGH, admin.email(), adminSubject, adminContent);
             }
 
-            log.info("Password reset request emails sent successfully to user: {} and admin", user.getEmail());
+            log.info("Password reset request emails queued for user: {} and admins", user.email());
         } catch (Exception e) {
             log.error("Error in sendPasswordResetRequestNotification for user: {}", userId, e);
             throw new RuntimeException("Failed to send password reset request notification", e);
@@ -213,7 +211,7 @@ public class EmailNotificationService implements NotificationService {
     public void sendPasswordResetApprovalNotification(UUID userId, String email) {
         log.info("Sending password reset approval notification for user: {}", userId);
         try {
-            User user = userRepository.findById(userId)
+            UserRecipient user = userRepository.findRecipientById(userId)
                     .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
             Notification notification = new Notification();
@@ -223,23 +221,17 @@ public class EmailNotificationService implements NotificationService {
             notification.setPriority(NotificationPriority.HIGH);
             notification.setRead(false);
             notification.setCreatedAt(java.time.LocalDateTime.now());
-            notificationRepository.save(notification);
+            if (!saveCoalesced("password-reset-approval", notification)) {
+                return;
+            }
 
             // Send email using SendGrid
             String subject = "Password Reset Approved";
-            String textContent = "Your password reset request has been approved.\n" +
-                    "Please use the link below to reset your password.";
-            String htmlContent = "<h3>Password Reset Approved</h3><br>" +
-                    "<p>Your password reset request has been approved.</p><br>" +
-                    "<p>Please use the link below to reset your password.</p>";
-
-            sendGridEmailService.sendEmail(
-                    user.getEmail(),
-                    subject,
-                    textContent,
-                    htmlContent);
-
-            log.info("Password reset approval email sent successfully to: {}", user.getEmail());
+            EmailContent content = emailTemplateEngine.render(EmailTemplateName.PASSWORD_RESET_APPROVED, Map.of());
+
+            deliverEmail(NotificationPriority.URGENT, user.email(), subject, content);
+
+            log.info("Password reset approval email queued for: {}", user.email());
         } catch (Exception e) {
             log.error("Error in sendPasswordResetApprovalNotification for user: {}", userId, e);
             throw new RuntimeException("Failed to send password reset approval notification", e);
@@ -250,7 +242,7 @@ public class EmailNotificationService implements NotificationService {
     public void sendPasswordChangeNotification(UUID userId, String email) {
         log.info("Sending password change notification for user: {}", userId);
         try {
-            User user = userRepository.findById(userId)
+            UserRecipient user = userRepository.findRecipientById(userId)
                     .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
             Notification notification = new Notification();
@@ -260,22 +252,13 @@ public class EmailNotificationService implements NotificationService {
             notification.setPriority(NotificationPriority.HIGH);
             notification.setRead(false);
             notification.setCreatedAt(java.time.LocalDateTime.now());
-            notificationRepository.save(notification);
-
-            String plainTextBody = "Your password has been changed successfully.\n" +
-                    "If you did not make this change, please contact support immediately.";
-            String htmlBody = "Your password has been changed successfully.<br>" +
-                    "If you did not make this change, please contact support immediately.";
+            if (!saveCoalesced("password-change", notification)) {
+                return;
+            }
 
-            boolean emailSent = sendGridEmailService.sendEmail(
-                    user.getEmail(),
-                    "Password Changed",
-                    plainTextBody,
-                    htmlBody);
+            EmailContent content = emailTemplateEngine.render(EmailTemplateName.PASSWORD_CHANGED, Map.of());
 
-            if (!emailSent) {
-                log.warn("Failed to send password change email to user: {}", user.getEmail());
-            }
+            deliverEmail(NotificationPriority.URGENT, user.email(), "Password Changed", content);
 
         } catch (Exception e) {
             log.error("Error in sendPasswordChangeNotification for user: {}", userId, e);
@@ -298,11 +281,22 @@ public class EmailNotificationService implements NotificationService {
     public void broadcastNotification(String title, String message, NotificationPriority priority) {
         log.info("Broadcasting notification: {}", title);
         try {
-            List<User> users = userRepository.findAll();
-
-            for (User user : users) {
+            List<UserRecipient> users = userRepository.findAllRecipients();
+            // Title and message are rendered once; only the recipient's name is substituted per user
+            PreparedEmail broadcastEmail = emailTemplateEngine.prepare(EmailTemplateName.BROADCAST,
+                    Map.of("title", String.valueOf(title), "message", String.valueOf(message)));
+
+            // Bulk mail never shares the URGENT lane with security emails
+            NotificationPriority deliveryPriority = priority == NotificationPriority.URGENT
+                    ? NotificationPriority.HIGH
+                    : priority;
+            // LOW and MEDIUM go into each user's next digest email instead of one email each
+            boolean digested = digestConfig.isDigested(priority);
+            List<DigestItem> digestItems = new ArrayList<>();
+
+            for (UserRecipient user : users) {
                 Notification notification = new Notification();
-                notification.setUserId(user.getId());
+                notification.setUserId(user.id());
                 notification.setTitle(title);
                 notification.setMessage(message);
                 notification.setPriority(priority);
@@ -310,16 +304,15 @@ public class EmailNotificationService implements NotificationService {
                 notification.setCreatedAt(java.time.LocalDateTime.now());
                 notificationRepository.save(notification);
 
-                boolean emailSent = sendGridEmailService.sendEmail(
-                        user.getEmail(),
-                        title,
-                        message,
-                        "<h2>" + title + "</h2><br><p>" + message + "</p>");
-
-                if (!emailSent) {
-                    log.warn("Failed to send broadcast email to user: {}", user.getEmail());
+                if (digested) {
+                    digestItems.add(digestService.toDigestItem(notification, user));
+                    continue;
                 }
+                EmailContent content = broadcastEmail.render(
+                        Map.of("firstName", String.valueOf(user.firstName())));
+                deliverEmail(deliveryPriority, user.email(), title, content);
             }
+            digestService.buffer(digestItems);
         } catch (Exception e) {
             log.error("Error in broadcastNotification", e);
             throw new RuntimeException("Failed to broadcast notification", e);
@@ -330,7 +323,7 @@ public class EmailNotificationService implements NotificationService {
     public void sendPasswordChangeRejectionNotification(UUID userId, String email) {
         log.info("Sending password change rejection notification for user: {}", userId);
         try {
-            User user = userRepository.findById(userId)
+            UserRecipient user = userRepository.findRecipientById(userId)
                     .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
             Notification notification = new Notification();
@@ -340,23 +333,17 @@ public class EmailNotificationService implements NotificationService {
             notification.setPriority(NotificationPriority.HIGH);
             notification.setRead(false);
             notification.setCreatedAt(java.time.LocalDateTime.now());
-            notificationRepository.save(notification);
+            if (!saveCoalesced("password-change-rejection", notification)) {
+                return;
+            }
 
             // Send email using SendGrid
             String subject = "Password Change Request Rejected";
-            String textContent = "Your password change request has been rejected by the administrator.\n" +
-                    "If you believe this is an error, please contact support.";
-            String htmlContent = "<h3>Password Change Request Rejected</h3><br>" +
-                    "<p>Your password change request has been rejected by the administrator.</p><br>" +
-                    "<p>If you believe this is an error, please contact support.</p>";
-
-            sendGridEmailService.sendEmail(
-                    user.getEmail(),
-                    subject,
-                    textContent,
-                    htmlContent);
-
-            log.info("Password change rejection email sent successfully to: {}", user.getEmail());
+            EmailContent content = emailTemplateEngine.render(EmailTemplateName.PASSWORD_CHANGE_REJECTED, Map.of());
+
+            deliverEmail(NotificationPriority.URGENT, user.email(), subject, content);
+
+            log.info("Password change rejection email queued for: {}", user.email());
         } catch (Exception e) {
             log.error("Error in sendPasswordChangeRejectionNotification for user: {}", userId, e);
             throw new RuntimeException("Failed to send password change rejection notification", e);
@@ -367,9 +354,7 @@ public class EmailNotificationService implements NotificationService {
     public void sendAccountDeletionNotification(UUID userId, String email) {
         log.info("Sending account deletion notification for user: {}", userId);
         try {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-
+            // The user row may already be gone when this runs asynchronously, so use the email passed in
             Notification notification = new Notification();
             notification.setUserId(userId);
             notification.setTitle("Account Scheduled for Deletion");
@@ -378,20 +363,16 @@ public class EmailNotificationService implements NotificationService {
             notification.setPriority(NotificationPriority.HIGH);
             notification.setRead(false);
             notification.setCreatedAt(java.time.LocalDateTime.now());
-            notificationRepository.save(notification);
+            if (!saveCoalesced("account-deletion", notification)) {
+                return;
+            }
 
             String subject = "Account Scheduled for Deletion";
-            String textContent = "Your account has been scheduled for deletion. If this was not you, please contact support immediately.";
-            String htmlContent = "<h3>Account Scheduled for Deletion</h3><br>" +
-                    "<p>Your account has been scheduled for deletion. If this was not you, please contact support immediately.</p>";
+            EmailContent content = emailTemplateEngine.render(EmailTemplateName.ACCOUNT_DELETION, Map.of());
 
-            sendGridEmailService.sendEmail(
-                    user.getEmail(),
-                    subject,
-                    textContent,
-                    htmlContent);
+            deliverEmail(NotificationPriority.URGENT, email, subject, content);
 
-            log.info("Account deletion email sent successfully to: {}", user.getEmail());
+            log.info("Account deletion email queued for: {}", email);
         } catch (Exception e) {
             log.error("Error in sendAccountDeletionNotification for user: {}", userId, e);
             throw new RuntimeException("Failed to send account deletion notification", e);
@@ -402,7 +383,50 @@ public class EmailNotificationService implements NotificationService {
     public void markNotificationAsRead(String id) {
         Notification notification = notificationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Notification not found with id: " + id));
-        notification.setRead(true);
-        notificationRepository.save(notification);
+        notificationRepository.markAsRead(notification);
+    }
+
+    @Override
+    public int markAllNotificationsAsRead(UUID userId) {
+        log.info("Marking all notifications as read for user: {}", userId);
+        return notificationRepository.markAllAsRead(userId);
+    }
+
+    /**
+     * Stores the notification unless one of the same type already went to this user in the current
+     * coalescing window, on this node or another.
+     *
+     * @return false if it was merged into the earlier one and nothing should be delivered
+     */
+    private boolean saveCoalesced(String type, Notification notification) {
+        Optional<String> id = notificationCoalescer.claim(type, notification.getUserId());
+        if (id.isPresent()) {
+            notification.setId(id.get());
+            boolean saved;
+            try {
+                saved = notificationRepository.saveIfAbsent(notification);
+            } catch (RuntimeException e) {
+                notificationCoalescer.release(type, notification.getUserId());
+                throw e;
+            }
+            if (saved) {
+                return true;
+            }
+            notificationCoalescer.duplicate(type);
+        }
+        log.info("Coalesced duplicate {} notification for user: {}", type, notification.getUserId());
+        return false;
+    }
+
+    /**
+     * Queues the email on the priority scheduler. Password and account deletion emails use URGENT so they
+     * are sent within seconds even while a broadcast is draining; the welcome email and admin alerts use HIGH.
+     */
+    private void deliverEmail(NotificationPriority priority, String to, String subject, EmailContent content) {
+        emailDelivery.submit(priority, subject, () -> {
+            if (!sendGridEmailService.sendEmail(to, subject, content.plainText(), content.html())) {
+                log.warn("Failed to send email '{}' to: {}", subject, to);
+            }
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+package com.yash.usermanagement.service.impl;
+
+import com.yash.usermanagement.config.NotificationExecutorConfig;
+import com.yash.usermanagement.service.NotificationDispatcher;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Singleton
+public class ExecutorNotificationDispatcher implements NotificationDispatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutorNotificationDispatcher.class);
+
+    private final NotificationExecutorConfig config;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+
+    public ExecutorNotificationDispatcher(NotificationExecutorConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(config.getPoolSize(), config.getPoolSize(), 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("notifications.executor.queue.depth", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("notifications.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<Void> dispatch(String name, Runnable task) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        long enqueuedAt = System.nanoTime();
+        Runnable tracked = () -> run(name, task, enqueuedAt, result);
+        try {
+            executor.execute(tracked);
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("notifications.dispatch.rejected",
+                    "task", name, "policy", config.getRejectionPolicy().name()).increment();
+            switch (config.getRejectionPolicy()) {
+                case CALLER_RUNS -> {
+                    LOG.warn("Notification queue full, running {} on the calling thread", name);
+                    tracked.run();
+                }
+                case ABORT -> {
+                    LOG.error("Notification queue full, rejected {}", name);
+                    result.completeExceptionally(e);
+                }
+                case DISCARD -> {
+                    LOG.error("Notification queue full, discarded {}", name);
+                    result.complete(null);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void run(String name, Runnable task, long enqueuedAt, CompletableFuture<Void> result) {
+        long startedAt = System.nanoTime();
+        Timer.builder("notifications.dispatch.queue.wait")
+                .tag("task", name)
+                .register(meterRegistry)
+                .record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+        String outcome = "success";
+        try {
+            task.run();
+            result.complete(null);
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            LOG.error("Notification task {} failed: {}", name, e.getMessage(), e);
+            result.completeExceptionally(e);
+        } finally {
+            Timer.builder("notifications.dispatch.execution")
+                    .tag("task", name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            LOG.warn("Notification executor did not drain in time, {} task(s) dropped",
+                    executor.shutdownNow().size());
+        }
+    }
+}
@@ -3,13 +3,18 @@ package com.yash.usermanagement.service.impl;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yash.usermanagement.config.GeminiConfig;
+import com.yash.usermanagement.exception.TransientDependencyException;
+import com.yash.usermanagement.resilience.DependencyGuard;
 import com.yash.usermanagement.service.GeminiService;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.client.HttpClient;
 import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientException;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import jakarta.inject.Singleton;
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.util.HashMap;
@@ -23,15 +28,18 @@ public class GeminiServiceImpl implements GeminiService {
     private final GeminiConfig geminiConfig;
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final DependencyGuard geminiGuard;
     private static final String GEMINI_URL = "/v1beta/models/gemini-1.5-flash-latest:generateContent?key=";
 
     @Inject
     public GeminiServiceImpl(GeminiConfig geminiConfig,
-            @Client("https://generativelanguage.googleapis.com") HttpClient httpClient,
-            ObjectMapper objectMapper) {
+            @Client(id = "gemini") HttpClient httpClient,
+            ObjectMapper objectMapper,
+            @Named("gemini") DependencyGuard geminiGuard) {
         this.geminiConfig = geminiConfig;
         this.httpClient = httpClient;
         this.objectMapper = objectMapper;
+        this.geminiGuard = geminiGuard;
     }
 
     @Override
@@ -49,7 +57,14 @@ public class GeminiServiceImpl implements GeminiService {
                 .contentType(MediaType.APPLICATION_JSON_TYPE);
         try {
             LOG.info("Calling Gemini API with prompt: {}", prompt);
-            String response = httpClient.toBlocking().retrieve(request);
+            // Throttling, server and connection errors are retried; they and timeouts count against the
+            // breaker. A rejected prompt or key comes back as a reply so it cannot open the circuit for everyone
+            Reply reply = geminiGuard.call(() -> execute(request), false);
+            if (reply.rejectedStatus() != 0) {
+                return "AI is unable to generate message. Error: Gemini responded with status "
+                        + reply.rejectedStatus();
+            }
+            String response = reply.body();
             LOG.info("Gemini API raw response: {}", response);
 
             // Parse the response to extract the generated text
@@ -70,4 +85,24 @@ public class GeminiServiceImpl implements GeminiService {
             return "AI is unable to generate message. Error: " + e.getMessage();
         }
     }
-}
\ No newline at end of file
+
+    private Reply execute(HttpRequest<Map<String, Object>> request) {
+        try {
+            return new Reply(httpClient.toBlocking().retrieve(request), 0);
+        } catch (HttpClientResponseException e) {
+            int statusCode = e.getStatus().getCode();
+            if (statusCode == 429 || statusCode >= 500) {
+                throw new TransientDependencyException("Gemini responded with status " + statusCode, e);
+            }
+            LOG.error("Gemini rejected the request. Status code: {}, body: {}", statusCode,
+                    e.getResponse().getBody(String.class).orElse(""));
+            return new Reply(null, statusCode);
+        } catch (HttpClientException e) {
+            // Connection and read failures: the prompt never reached Gemini or can safely be sent again
+            throw new TransientDependencyException("Gemini call failed: " + e.getMessage(), e);
+        }
+    }
+
+    private record Reply(String body, int rejectedStatus) {
+    }
+}
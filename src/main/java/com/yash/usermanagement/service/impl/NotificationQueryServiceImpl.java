@@ -0,0 +1,75 @@
+package com.yash.usermanagement.service.impl;
+
+import com.yash.usermanagement.exception.ResourceNotFoundException;
+import com.yash.usermanagement.model.Notification;
+import com.yash.usermanagement.model.NotificationPriority;
+import com.yash.usermanagement.repository.NotificationCounterRepository;
+import com.yash.usermanagement.repository.ReactiveNotificationRepository;
+import com.yash.usermanagement.repository.UserRepository;
+import com.yash.usermanagement.service.NotificationQueryService;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+@Singleton
+public class NotificationQueryServiceImpl implements NotificationQueryService {
+    private final ReactiveNotificationRepository reactiveNotificationRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final UserRepository userRepository;
+    // The user lookup is JDBC, so it runs on the blocking executor rather than the event loop
+    private final Scheduler blockingScheduler;
+
+    public NotificationQueryServiceImpl(ReactiveNotificationRepository reactiveNotificationRepository,
+                                        NotificationCounterRepository notificationCounterRepository,
+                                        UserRepository userRepository,
+                                        @Named(TaskExecutors.BLOCKING) ExecutorService blockingExecutor) {
+        this.reactiveNotificationRepository = reactiveNotificationRepository;
+        this.notificationCounterRepository = notificationCounterRepository;
+        this.userRepository = userRepository;
+        this.blockingScheduler = Schedulers.fromExecutorService(blockingExecutor);
+    }
+
+    @Override
+    public Publisher<Notification> getAllNotifications() {
+        return reactiveNotificationRepository.findAll();
+    }
+
+    @Override
+    public Mono<Notification> getNotificationById(String id) {
+        return reactiveNotificationRepository.findById(id);
+    }
+
+    @Override
+    public Publisher<Notification> getNotificationsByUserId(UUID userId) {
+        return forExistingUser(userId, () -> reactiveNotificationRepository.findByUserId(userId));
+    }
+
+    @Override
+    public Publisher<Notification> getNotificationsByUserIdAndPriority(UUID userId, NotificationPriority priority) {
+        return forExistingUser(userId,
+                () -> reactiveNotificationRepository.findByUserIdAndPriority(userId, priority));
+    }
+
+    @Override
+    public Mono<Long> getUnreadCount(UUID userId) {
+        return notificationCounterRepository.findUnreadCount(userId);
+    }
+
+    // An unknown user is a 404, not an empty inbox
+    private Flux<Notification> forExistingUser(UUID userId, Supplier<Publisher<Notification>> query) {
+        return Mono.fromCallable(() -> userRepository.existsById(userId))
+                .subscribeOn(blockingScheduler)
+                .flatMapMany(exists -> exists
+                        ? Flux.from(query.get())
+                        : Flux.error(new ResourceNotFoundException("User not found with id: " + userId)));
+    }
+}
@@ -3,13 +3,19 @@ package com.yash.usermanagement.service.impl;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.yash.usermanagement.config.FirebaseMessagingProvider;
+import com.yash.usermanagement.delivery.DeliveryScheduler;
+import com.yash.usermanagement.exception.DependencyUnavailableException;
+import com.yash.usermanagement.exception.TransientDependencyException;
 import com.yash.usermanagement.model.Notification;
 import com.yash.usermanagement.model.NotificationPriority;
 import com.yash.usermanagement.model.UserDevice;
 import com.yash.usermanagement.repository.NotificationRepository;
 import com.yash.usermanagement.repository.UserDeviceRepository;
 import com.yash.usermanagement.repository.UserRepository;
-import com.yash.usermanagement.model.User;
+import com.yash.usermanagement.dto.UserRecipient;
+import com.yash.usermanagement.resilience.DependencyGuard;
 import com.yash.usermanagement.service.NotificationService;
 import jakarta.inject.Named;
 import org.slf4j.Logger;
@@ -21,17 +27,21 @@ import java.util.UUID;
 public class PushNotificationService implements NotificationService {
     private static final Logger log = LoggerFactory.getLogger(PushNotificationService.class);
 
-    private final FirebaseMessaging firebaseMessaging;
+    private final FirebaseMessagingProvider firebaseMessaging;
     private final UserDeviceRepository userDeviceRepository;
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final DependencyGuard fcmGuard;
+    private final DeliveryScheduler pushDelivery;
 
-
-    public PushNotificationService(FirebaseMessaging firebaseMessaging, UserDeviceRepository userDeviceRepository, NotificationRepository notificationRepository, UserRepository userRepository) {
+    public PushNotificationService(FirebaseMessagingProvider firebaseMessaging, UserDeviceRepository userDeviceRepository, NotificationRepository notificationRepository, UserRepository userRepository,
+            @Named("fcm") DependencyGuard fcmGuard, @Named("push") DeliveryScheduler pushDelivery) {
         this.firebaseMessaging = firebaseMessaging;
         this.userDeviceRepository = userDeviceRepository;
         this.notificationRepository = notificationRepository;
         this.userRepository = userRepository;
+        this.fcmGuard = fcmGuard;
+        this.pushDelivery = pushDelivery;
     }
 
     @Override
@@ -55,13 +65,7 @@ public class PushNotificationService implements NotificationService {
                     .setToken(device.getFcmToken())
                     .build();
 
-            try {
-                String response = firebaseMessaging.send(message);
-                log.info("Successfully sent message to device {}: {}", device.getFcmToken(), response);
-            } catch (FirebaseMessagingException e) {
-                log.error("Failed to send message to device {}", device.getFcmToken(), e);
-                // Here you might want to handle invalid tokens, e.g., by deleting them from the database
-            }
+            deliver(savedNotification.getPriority(), message, device);
         }
 
         return savedNotification;
@@ -121,10 +125,14 @@ public class PushNotificationService implements NotificationService {
     public void broadcastNotification(String title, String message, NotificationPriority priority) {
         log.info("Broadcasting push notification: {}", title);
         try {
-            List<User> users = userRepository.findAll();
-            for (User user : users) {
+            List<UserRecipient> users = userRepository.findAllRecipients();
+            // Bulk pushes never share the URGENT lane with security messages
+            NotificationPriority deliveryPriority = priority == NotificationPriority.URGENT
+                    ? NotificationPriority.HIGH
+                    : priority;
+            for (UserRecipient user : users) {
                 Notification notification = new Notification();
-                notification.setUserId(user.getId());
+                notification.setUserId(user.id());
                 notification.setTitle(title);
                 notification.setMessage(message);
                 notification.setPriority(priority);
@@ -132,7 +140,7 @@ public class PushNotificationService implements NotificationService {
                 notification.setCreatedAt(java.time.LocalDateTime.now());
                 notificationRepository.save(notification);
 
-                List<UserDevice> userDevices = userDeviceRepository.findByUserId(user.getId());
+                List<UserDevice> userDevices = userDeviceRepository.findByUserId(user.id());
                 for (UserDevice device : userDevices) {
                     Message fcmMessage = Message.builder()
                             .setNotification(com.google.firebase.messaging.Notification.builder()
@@ -141,12 +149,7 @@ public class PushNotificationService implements NotificationService {
                                     .build())
                             .setToken(device.getFcmToken())
                             .build();
-                    try {
-                        String response = firebaseMessaging.send(fcmMessage);
-                        log.info("Successfully sent broadcast message to device {}: {}", device.getFcmToken(), response);
-                    } catch (FirebaseMessagingException e) {
-                        log.error("Failed to send broadcast message to device {}", device.getFcmToken(), e);
-                    }
+                    deliver(deliveryPriority, fcmMessage, device);
                 }
             }
         } catch (Exception e) {
@@ -164,4 +167,41 @@ public class PushNotificationService implements NotificationService {
     public void markNotificationAsRead(String id) {
         log.info("PUSH: markNotificationAsRead called (not implemented)");
     }
+
+    @Override
+    public int markAllNotificationsAsRead(UUID userId) {
+        log.info("PUSH: markAllNotificationsAsRead called (not implemented)");
+        return 0;
+    }
+
+    private void deliver(NotificationPriority priority, Message message, UserDevice device) {
+        pushDelivery.submit(priority, "push", () -> {
+            try {
+                // Resolved outside the guard: a Firebase that cannot initialize is not an FCM outage
+                FirebaseMessaging messaging = firebaseMessaging.get();
+                String response = fcmGuard.call(() -> sendMessage(messaging, message, device), false);
+                if (response != null) {
+                    log.info("Successfully sent message to device {}: {}", device.getFcmToken(), response);
+                }
+            } catch (DependencyUnavailableException e) {
+                log.error("Failed to send message to device {}", device.getFcmToken(), e);
+            }
+        });
+    }
+
+    private String sendMessage(FirebaseMessaging messaging, Message message, UserDevice device) {
+        try {
+            return messaging.send(message);
+        } catch (FirebaseMessagingException e) {
+            MessagingErrorCode errorCode = e.getMessagingErrorCode();
+            if (errorCode == MessagingErrorCode.UNAVAILABLE || errorCode == MessagingErrorCode.INTERNAL
+                    || errorCode == MessagingErrorCode.QUOTA_EXCEEDED) {
+                throw new TransientDependencyException("FCM send failed with " + errorCode, e);
+            }
+            // Token-level rejections are not an FCM outage, so they must not trip the circuit breaker.
+            // Here you might want to handle invalid tokens, e.g., by deleting them from the database
+            log.error("FCM rejected message for device {}", device.getFcmToken(), e);
+            return null;
+        }
+    }
 }
\ No newline at end of file
@@ -1,52 +1,152 @@
 package com.yash.usermanagement.service.impl;
 
-import com.sendgrid.Method;
-import com.sendgrid.Request;
-import com.sendgrid.Response;
-import com.sendgrid.SendGrid;
-import com.sendgrid.helpers.mail.Mail;
-import com.sendgrid.helpers.mail.objects.Content;
-import com.sendgrid.helpers.mail.objects.Email;
 import com.yash.usermanagement.config.SendGridConfig;
+import com.yash.usermanagement.dto.SendGridMailRequest;
+import com.yash.usermanagement.exception.TransientDependencyException;
+import com.yash.usermanagement.health.IntegrationStatus;
+import com.yash.usermanagement.health.IntegrationStatus.State;
+import com.yash.usermanagement.resilience.DependencyGuard;
+import com.yash.usermanagement.template.EmailContent;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import java.io.IOException;
+import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends mail through the SendGrid v3 API using the shared, pooled Netty {@link HttpClient}
+ * configured under {@code micronaut.http.services.sendgrid}.
+ */
 @Singleton
 public class SendGridEmailService {
 
     private static final Logger LOG = LoggerFactory.getLogger(SendGridEmailService.class);
+    private static final String MAIL_SEND_PATH = "/v3/mail/send";
+    private static final String SCOPES_PATH = "/v3/scopes";
+    public static final int MAX_PERSONALIZATIONS = 1000;
+    public static final int MAX_SUBSTITUTION_BYTES = 10000;
+    private static final String PLAIN_TEXT_TOKEN = "-bodyText-";
+    private static final String HTML_TOKEN = "-bodyHtml-";
 
-    private final SendGrid sendGridClient;
+    private final HttpClient httpClient;
+    private final String apiKey;
     private final String fromEmail;
+    private final DependencyGuard sendGridGuard;
+    private volatile IntegrationStatus status;
 
-    public SendGridEmailService(SendGridConfig sendGridConfig) {
-        this.sendGridClient = new SendGrid(sendGridConfig.getApiKey());
+    public SendGridEmailService(SendGridConfig sendGridConfig,
+            @Client(id = "sendgrid") HttpClient httpClient,
+            @Named("sendgrid") DependencyGuard sendGridGuard) {
+        this.httpClient = httpClient;
+        this.apiKey = sendGridConfig.getApiKey();
         this.fromEmail = "en20cs301184@medicaps.ac.in"; // Use the from email from your application.yml
+        this.sendGridGuard = sendGridGuard;
+        this.status = apiKey == null || apiKey.isBlank()
+                ? IntegrationStatus.of(State.UNCONFIGURED, "micronaut.sendgrid.api-key is not set")
+                : IntegrationStatus.of(State.LAZY, null);
     }
 
-    public boolean sendEmail(String to, String subject, String bodyPlainText, String bodyHtmlText) {
-        Email from = new Email(fromEmail);
-        Email toEmail = new Email(to);
-        Content contentPlainText = new Content("text/plain", bodyPlainText);
-        Content contentHtmlText = new Content("text/html", bodyHtmlText);
+    /**
+     * Checks the API key against {@code /v3/scopes}, which also opens the first pooled connection (TCP, TLS
+     * and HTTP/2 negotiation) before the first email needs it. Goes around the guard so a rejected key does
+     * not count towards the circuit breaker.
+     */
+    public void warmUp() {
+        if (status.state() == State.UNCONFIGURED) {
+            return;
+        }
+        status = IntegrationStatus.of(State.WARMING, null);
+        try {
+            Mono.from(httpClient.exchange(HttpRequest.GET(SCOPES_PATH).bearerAuth(apiKey))).block();
+            status = IntegrationStatus.of(State.READY, null);
+        } catch (HttpClientResponseException e) {
+            status = IntegrationStatus.of(State.FAILED, "SendGrid responded with status " + e.getStatus().getCode());
+        } catch (RuntimeException e) {
+            status = IntegrationStatus.of(State.FAILED, e.getMessage());
+        }
+        LOG.info("SendGrid warm-up finished: {}", status.state());
+    }
 
-        Mail mail = new Mail(from, subject, toEmail, contentHtmlText); // Prefer HTML
+    public IntegrationStatus status() {
+        return status;
+    }
 
-        Request request = new Request();
-        try {
-            request.setMethod(Method.POST);
-            request.setEndpoint("mail/send");
-            request.setBody(mail.build());
-            Response response = sendGridClient.api(request);
+    public boolean sendEmail(String to, String subject, String bodyPlainText, String bodyHtmlText) {
+        return sendEmailAsync(to, subject, bodyPlainText, bodyHtmlText).join();
+    }
 
-            LOG.info("SendGrid email sent. Status code: {}", response.getStatusCode());
-            return response.getStatusCode() >= 200 && response.getStatusCode() < 300;
+    /**
+     * Sends an email without blocking the caller. The future never completes exceptionally;
+     * it yields {@code false} when the email could not be delivered.
+     */
+    public CompletableFuture<Boolean> sendEmailAsync(String to, String subject, String bodyPlainText,
+            String bodyHtmlText) {
+        HttpRequest<SendGridMailRequest> request = HttpRequest
+                .POST(MAIL_SEND_PATH, SendGridMailRequest.of(fromEmail, to, subject, bodyPlainText, bodyHtmlText))
+                .bearerAuth(apiKey)
+                .contentType(MediaType.APPLICATION_JSON_TYPE);
+
+        // A send is not idempotent, so only throttled/5xx responses (nothing delivered) are retried
+        return sendGridGuard.callAsync(() -> execute(request, to), false)
+                .exceptionally(e -> {
+                    LOG.error("Failed to send email via SendGrid to {}", to, e);
+                    return false;
+                });
+    }
 
-        } catch (IOException e) {
-            LOG.error("Failed to send email via SendGrid", e);
-            return false;
+    /**
+     * Sends a different body to each recipient in a single {@code /mail/send} call, using
+     * per-personalization substitutions. At most {@value #MAX_PERSONALIZATIONS} recipients per call, and
+     * each recipient's text and HTML together must stay under {@value #MAX_SUBSTITUTION_BYTES} bytes.
+     * The future yields {@code false} when SendGrid rejects the request outright (4xx other than 429) and
+     * fails with {@link com.yash.usermanagement.exception.DependencyUnavailableException} when SendGrid could
+     * not be reached, so callers can tell a batch worth retrying from one that never will be accepted.
+     */
+    public CompletableFuture<Boolean> sendBatchAsync(String subject, Map<String, EmailContent> contentByRecipient) {
+        if (contentByRecipient.size() > MAX_PERSONALIZATIONS) {
+            throw new IllegalArgumentException("SendGrid accepts at most " + MAX_PERSONALIZATIONS
+                    + " personalizations per request, got " + contentByRecipient.size());
         }
+        List<SendGridMailRequest.Personalization> personalizations = new ArrayList<>(contentByRecipient.size());
+        contentByRecipient.forEach((to, content) -> personalizations.add(new SendGridMailRequest.Personalization(
+                List.of(new SendGridMailRequest.EmailAddress(to)),
+                Map.of(PLAIN_TEXT_TOKEN, content.plainText(), HTML_TOKEN, content.html()))));
+        String recipients = contentByRecipient.size() + " recipients";
+        HttpRequest<SendGridMailRequest> request = HttpRequest
+                .POST(MAIL_SEND_PATH, SendGridMailRequest.personalized(fromEmail, subject, PLAIN_TEXT_TOKEN,
+                        HTML_TOKEN, personalizations))
+                .bearerAuth(apiKey)
+                .contentType(MediaType.APPLICATION_JSON_TYPE);
+
+        return sendGridGuard.callAsync(() -> execute(request, recipients), false);
+    }
+
+    private CompletableFuture<Boolean> execute(HttpRequest<SendGridMailRequest> request, String to) {
+        return Mono.from(httpClient.exchange(request))
+                .map(response -> {
+                    LOG.info("SendGrid email sent. Status code: {}", response.getStatus().getCode());
+                    return true;
+                })
+                .onErrorResume(HttpClientResponseException.class, e -> {
+                    int statusCode = e.getStatus().getCode();
+                    if (statusCode == 429 || statusCode >= 500) {
+                        return Mono.error(new TransientDependencyException(
+                                "SendGrid responded with status " + statusCode, e));
+                    }
+                    LOG.error("SendGrid rejected email to {}. Status code: {}, body: {}", to, statusCode,
+                            e.getResponse().getBody(String.class).orElse(""));
+                    return Mono.just(false);
+                })
+                .toFuture();
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,8 @@
 package com.yash.usermanagement.service.impl;
 
+import com.yash.usermanagement.dto.UserCredentials;
+import com.yash.usermanagement.dto.UserRecipient;
+import com.yash.usermanagement.dto.UserView;
 import com.yash.usermanagement.model.*;
 import jakarta.inject.Singleton;
 import jakarta.transaction.Transactional;
@@ -17,8 +20,10 @@ import com.yash.usermanagement.service.UserService;
 import com.yash.usermanagement.aop.Loggable;
 import com.yash.usermanagement.aop.Auditable;
 import com.yash.usermanagement.aop.Timed;
+import com.yash.usermanagement.aop.ReplicaRead;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -49,8 +54,7 @@ public class UserServiceImpl implements UserService {
             LOG.info("Creating new user with email: {}", user.getEmail());
 
             // Check if user with email already exists
-            Optional<User> existingUser = userRepository.findByEmail(user.getEmail());
-            if (existingUser.isPresent()) {
+            if (userRepository.existsByEmail(user.getEmail())) {
                 throw new DatabaseException("User with email " + user.getEmail() + " already exists");
             }
 
@@ -71,6 +75,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @ReplicaRead
     public List<User> getAllUsers() {
         try {
             LOG.info("Fetching all users");
@@ -82,6 +87,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @ReplicaRead
     public User getUserById(UUID id) {
         try {
             LOG.info("Fetching user with id: {}", id);
@@ -95,6 +101,69 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    @Override
+    @ReplicaRead
+    public List<UserView> listUsers() {
+        try {
+            LOG.info("Listing all users");
+            return userRepository.findAllViews();
+        } catch (Exception e) {
+            LOG.error("Error listing users: {}", e.getMessage());
+            throw new DatabaseException("Failed to fetch users", e);
+        }
+    }
+
+    @Override
+    @ReplicaRead
+    public UserView getUserViewById(UUID id) {
+        try {
+            LOG.info("Fetching user view with id: {}", id);
+            return userRepository.findViewById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error("Error fetching user: {}", e.getMessage());
+            throw new DatabaseException("Failed to fetch user", e);
+        }
+    }
+
+    @Override
+    @ReplicaRead
+    public Optional<UserView> findUserViewByEmail(String email) {
+        try {
+            LOG.info("Finding user view by email: {}", email);
+            return userRepository.findViewByEmail(email);
+        } catch (Exception e) {
+            LOG.error("Error finding user by email: {}", e.getMessage());
+            throw new DatabaseException("Failed to find user by email", e);
+        }
+    }
+
+    @Override
+    public Optional<UserCredentials> findCredentialsByEmail(String email) {
+        try {
+            return userRepository.findCredentialsByEmail(email);
+        } catch (Exception e) {
+            LOG.error("Error fetching credentials for email {}: {}", email, e.getMessage());
+            throw new DatabaseException("Failed to fetch user by email", e);
+        }
+    }
+
+    @Override
+    @ReplicaRead
+    public List<UserRecipient> getRecipients(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return userRepository.findRecipientsByIdIn(ids);
+        } catch (Exception e) {
+            LOG.error("Error fetching {} user(s): {}", ids.size(), e.getMessage());
+            throw new DatabaseException("Failed to fetch users", e);
+        }
+    }
+
     @Override
     @Loggable
     @Auditable
@@ -164,6 +233,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @ReplicaRead
     public Optional<User> findByEmail(String email) {
         try {
             LOG.info("Finding user by email: {}", email);
@@ -175,6 +245,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @ReplicaRead
     public Optional<User> getUserByEmail(String email) {
         try {
             LOG.info("Fetching user with email: {}", email);
@@ -192,6 +263,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @ReplicaRead
     public boolean existsByEmail(String email) {
         try {
             LOG.info("Checking if user exists with email: {}", email);
@@ -294,6 +366,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @ReplicaRead
     public List<PasswordChangeRequest> getPendingPasswordChangeRequests() {
         LOG.info("Fetching all pending password change requests");
         try {
@@ -305,6 +378,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @ReplicaRead
     public Optional<PasswordChangeRequest> getPasswordChangeRequestByUserId(UUID userId) {
         LOG.info("Fetching password change request for user: {}", userId);
         try {
@@ -0,0 +1,4 @@
+package com.yash.usermanagement.template;
+
+public record EmailContent(String plainText, String html) {
+}
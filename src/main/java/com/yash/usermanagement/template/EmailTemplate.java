@@ -0,0 +1,120 @@
+package com.yash.usermanagement.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A template compiled into alternating literal and {@code {{placeholder}}} segments.
+ * HTML templates escape every substituted value.
+ */
+public final class EmailTemplate {
+
+    private static final Pattern PLACEHOLDER_NAME = Pattern.compile("[A-Za-z][A-Za-z0-9_]*");
+    private static final int MAX_RETAINED_BUFFER = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private final String name;
+    private final boolean html;
+    // literals.length is always placeholders.length + 1
+    private final String[] literals;
+    private final String[] placeholders;
+
+    private EmailTemplate(String name, boolean html, String[] literals, String[] placeholders) {
+        this.name = name;
+        this.html = html;
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+
+    public static EmailTemplate compile(String name, String source, boolean html) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf("{{", position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalStateException("Unclosed placeholder in email template " + name + " at offset " + open);
+            }
+            String placeholder = source.substring(open + 2, close).trim();
+            if (!PLACEHOLDER_NAME.matcher(placeholder).matches()) {
+                throw new IllegalStateException("Invalid placeholder '" + placeholder + "' in email template " + name);
+            }
+            literals.add(source.substring(position, open));
+            placeholders.add(placeholder);
+            position = close + 2;
+        }
+        literals.add(source.substring(position));
+        return new EmailTemplate(name, html, literals.toArray(String[]::new), placeholders.toArray(String[]::new));
+    }
+
+    /**
+     * Returns a template with the given values substituted and merged into the surrounding literals.
+     * Placeholders without a value stay open for {@link #render(Map)}.
+     */
+    public EmailTemplate bind(Map<String, String> values) {
+        List<String> boundLiterals = new ArrayList<>();
+        List<String> openPlaceholders = new ArrayList<>();
+        StringBuilder current = new StringBuilder(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = values.get(placeholders[i]);
+            if (value != null) {
+                appendValue(current, value);
+            } else {
+                boundLiterals.add(current.toString());
+                openPlaceholders.add(placeholders[i]);
+                current.setLength(0);
+            }
+            current.append(literals[i + 1]);
+        }
+        boundLiterals.add(current.toString());
+        return new EmailTemplate(name, html, boundLiterals.toArray(String[]::new),
+                openPlaceholders.toArray(String[]::new));
+    }
+
+    public String render(Map<String, String> values) {
+        if (placeholders.length == 0) {
+            return literals[0];
+        }
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        out.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = values.get(placeholders[i]);
+            if (value == null) {
+                throw new IllegalArgumentException(
+                        "Missing value for '" + placeholders[i] + "' in email template " + name);
+            }
+            appendValue(out, value);
+            out.append(literals[i + 1]);
+        }
+        String rendered = out.toString();
+        if (out.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return rendered;
+    }
+
+    private void appendValue(StringBuilder out, String value) {
+        if (!html) {
+            out.append(value);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
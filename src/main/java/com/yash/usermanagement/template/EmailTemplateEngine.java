@@ -0,0 +1,61 @@
+package com.yash.usermanagement.template;
+
+import io.micronaut.context.annotation.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Loads and compiles every email template from {@code classpath:email-templates/} once at startup,
+ * so a malformed template fails the boot instead of the first send.
+ */
+@Context
+public class EmailTemplateEngine {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EmailTemplateEngine.class);
+    private static final String TEMPLATE_ROOT = "email-templates/";
+
+    private final Map<EmailTemplateName, PreparedEmail> templates = new EnumMap<>(EmailTemplateName.class);
+
+    public EmailTemplateEngine() {
+        for (EmailTemplateName name : EmailTemplateName.values()) {
+            templates.put(name, new PreparedEmail(
+                    load(name.getFileName() + ".txt", false),
+                    load(name.getFileName() + ".html", true)));
+        }
+        LOG.info("Compiled {} email templates", templates.size());
+    }
+
+    public EmailContent render(EmailTemplateName name, Map<String, String> values) {
+        return templates.get(name).render(values);
+    }
+
+    /**
+     * Substitutes the shared values once, leaving only per-recipient placeholders to render.
+     */
+    public PreparedEmail prepare(EmailTemplateName name, Map<String, String> sharedValues) {
+        PreparedEmail template = templates.get(name);
+        return new PreparedEmail(template.plainText().bind(sharedValues), template.html().bind(sharedValues));
+    }
+
+    private EmailTemplate load(String fileName, boolean html) {
+        String path = TEMPLATE_ROOT + fileName;
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Email template not found on classpath: " + path);
+            }
+            String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            if (source.endsWith("\n")) {
+                source = source.substring(0, source.length() - 1);
+            }
+            return EmailTemplate.compile(fileName, source, html);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read email template: " + path, e);
+        }
+    }
+}
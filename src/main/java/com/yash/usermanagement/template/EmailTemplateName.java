@@ -0,0 +1,24 @@
+package com.yash.usermanagement.template;
+
+public enum EmailTemplateName {
+    WELCOME("welcome"),
+    PASSWORD_RESET_REQUEST("password-reset-request"),
+    PASSWORD_RESET_REQUEST_ADMIN("password-reset-request-admin"),
+    PASSWORD_RESET_APPROVED("password-reset-approved"),
+    PASSWORD_CHANGED("password-changed"),
+    PASSWORD_CHANGE_REJECTED("password-change-rejected"),
+    ACCOUNT_DELETION("account-deletion"),
+    BROADCAST("broadcast"),
+    DIGEST("digest"),
+    DIGEST_ITEM("digest-item");
+
+    private final String fileName;
+
+    EmailTemplateName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+}
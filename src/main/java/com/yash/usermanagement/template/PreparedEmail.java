@@ -0,0 +1,13 @@
+package com.yash.usermanagement.template;
+
+import java.util.Map;
+
+/**
+ * Text and HTML templates with the fields shared by every recipient already substituted.
+ */
+public record PreparedEmail(EmailTemplate plainText, EmailTemplate html) {
+
+    public EmailContent render(Map<String, String> recipientValues) {
+        return new EmailContent(plainText.render(recipientValues), html.render(recipientValues));
+    }
+}
@@ -0,0 +1,55 @@
+package com.yash.usermanagement.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates ULIDs: 26 Crockford base32 characters, 48 bits of epoch millis followed by 80 random bits.
+ * They sort lexicographically by creation time, which makes them usable as DynamoDB sort keys.
+ */
+public final class Ulid {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private Ulid() {
+    }
+
+    public static String next() {
+        return at(System.currentTimeMillis());
+    }
+
+    public static String at(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return of(epochMillis, random.nextLong(), random.nextLong());
+    }
+
+    /**
+     * Deterministic ULID whose 80 entropy bits come from the given UUID, so re-running a backfill
+     * produces the same key for the same source item.
+     */
+    public static String at(long epochMillis, UUID entropy) {
+        return of(epochMillis, entropy.getMostSignificantBits(), entropy.getLeastSignificantBits());
+    }
+
+    private static String of(long epochMillis, long high, long low) {
+        if (epochMillis < 0 || epochMillis > 0xFFFFFFFFFFFFL) {
+            throw new IllegalArgumentException("Timestamp out of ULID range: " + epochMillis);
+        }
+        long randomHigh = high & 0xFFFFL; // 16 bits
+        long randomLow = low;             // 64 bits
+
+        char[] chars = new char[26];
+        // 48-bit time in the first 10 characters (the top 2 bits of the first one are always zero)
+        for (int i = 9; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (epochMillis & 0x1F)];
+            epochMillis >>>= 5;
+        }
+        // 80 random bits in the last 16 characters
+        for (int i = 25; i >= 10; i--) {
+            chars[i] = ALPHABET[(int) (randomLow & 0x1F)];
+            randomLow = (randomLow >>> 5) | ((randomHigh & 0x1F) << 59);
+            randomHigh >>>= 5;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,135 @@
+package com.yash.usermanagement.websocket;
+
+import com.yash.usermanagement.config.NotificationWebSocketConfig;
+import com.yash.usermanagement.event.NotificationCreatedEvent;
+import com.yash.usermanagement.model.Notification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.websocket.CloseReason;
+import io.micronaut.websocket.WebSocketSession;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process registry of live WebSocket sessions per user. New notifications are serialized once and
+ * written to each of the user's sessions without blocking; a session whose unflushed writes exceed
+ * {@code max-pending-messages} is closed so one slow client cannot grow server memory.
+ * Evicted clients are expected to reconnect and catch up through the REST inbox.
+ */
+@Singleton
+public class NotificationSessionRegistry {
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationSessionRegistry.class);
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final NotificationWebSocketConfig config;
+    private final JsonMapper jsonMapper;
+    private final Counter evictions;
+    private final Counter delivered;
+
+    public NotificationSessionRegistry(NotificationWebSocketConfig config, JsonMapper jsonMapper,
+                                       MeterRegistry meterRegistry) {
+        this.config = config;
+        this.jsonMapper = jsonMapper;
+        this.evictions = meterRegistry.counter("notifications.websocket.evictions");
+        this.delivered = meterRegistry.counter("notifications.websocket.delivered");
+        meterRegistry.gauge("notifications.websocket.sessions", subscribers,
+                map -> map.values().stream().mapToInt(Set::size).sum());
+    }
+
+    /**
+     * @return false if the user already has the maximum number of open sessions
+     */
+    public boolean register(UUID userId, WebSocketSession session) {
+        AtomicBoolean added = new AtomicBoolean();
+        // Check and add under the map's bin lock, so concurrent connects cannot exceed the limit
+        subscribers.compute(userId, (id, sessions) -> {
+            Set<Subscriber> current = sessions == null ? ConcurrentHashMap.newKeySet() : sessions;
+            if (current.size() < config.getMaxSessionsPerUser()) {
+                current.add(new Subscriber(userId, session));
+                added.set(true);
+            }
+            return current.isEmpty() ? null : current;
+        });
+        return added.get();
+    }
+
+    public void unregister(UUID userId, WebSocketSession session) {
+        subscribers.computeIfPresent(userId, (id, sessions) -> {
+            sessions.removeIf(subscriber -> subscriber.session.getId().equals(session.getId()));
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    @EventListener
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        publish(event.notification());
+    }
+
+    public void publish(Notification notification) {
+        Set<Subscriber> sessions = subscribers.get(notification.getUserId());
+        if (sessions == null || sessions.isEmpty()) {
+            return;
+        }
+        String payload;
+        try {
+            payload = jsonMapper.writeValueAsString(notification);
+        } catch (IOException e) {
+            LOG.error("Failed to serialize notification {} for WebSocket delivery", notification.getId(), e);
+            return;
+        }
+        for (Subscriber subscriber : sessions) {
+            subscriber.offer(payload);
+        }
+    }
+
+    private void evict(Subscriber subscriber, String reason) {
+        unregister(subscriber.userId, subscriber.session);
+        evictions.increment();
+        LOG.warn("Closing notification WebSocket {} for user {}: {}", subscriber.session.getId(), subscriber.userId, reason);
+        if (subscriber.session.isOpen()) {
+            subscriber.session.close(CloseReason.TRY_AGAIN_LATER);
+        }
+    }
+
+    private final class Subscriber {
+        private final UUID userId;
+        private final WebSocketSession session;
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private Subscriber(UUID userId, WebSocketSession session) {
+            this.userId = userId;
+            this.session = session;
+        }
+
+        void offer(String payload) {
+            if (!session.isOpen()) {
+                unregister(userId, session);
+                return;
+            }
+            if (pending.incrementAndGet() > config.getMaxPendingMessages()) {
+                pending.decrementAndGet();
+                evict(this, "slow consumer");
+                return;
+            }
+            session.sendAsync(payload).whenComplete((sent, error) -> {
+                pending.decrementAndGet();
+                if (error != null) {
+                    evict(this, "write failed: " + error.getMessage());
+                } else {
+                    delivered.increment();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.yash.usermanagement.websocket;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.security.authentication.Authentication;
+import io.micronaut.security.token.validator.TokenValidator;
+import io.micronaut.websocket.CloseReason;
+import io.micronaut.websocket.WebSocketSession;
+import io.micronaut.websocket.annotation.OnClose;
+import io.micronaut.websocket.annotation.OnMessage;
+import io.micronaut.websocket.annotation.OnOpen;
+import io.micronaut.websocket.annotation.ServerWebSocket;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Pushes a user's new notifications as JSON text frames.
+ * <p>
+ * Browsers cannot set headers on a WebSocket handshake, so they connect with {@code ?ticket=...} from
+ * {@code POST /api/notifications/ws-ticket}; other clients may send the JWT as a bearer Authorization header.
+ * The JWT never goes in the URL, where the access log would record it. The user comes from the ticket or
+ * the token's {@code userId} claim; clients cannot subscribe to someone else's inbox.
+ */
+@ServerWebSocket("/ws/notifications")
+public class NotificationWebSocket {
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationWebSocket.class);
+    private static final String USER_ID = "userId";
+
+    private final Collection<TokenValidator<HttpRequest<?>>> tokenValidators;
+    private final NotificationSessionRegistry registry;
+    private final WebSocketTickets tickets;
+
+    public NotificationWebSocket(Collection<TokenValidator<HttpRequest<?>>> tokenValidators,
+                                 NotificationSessionRegistry registry, WebSocketTickets tickets) {
+        this.tokenValidators = tokenValidators;
+        this.registry = registry;
+        this.tickets = tickets;
+    }
+
+    @OnOpen
+    public Publisher<Void> onOpen(WebSocketSession session, HttpRequest<?> request) {
+        return authenticate(request)
+                .doOnNext(userId -> {
+                    session.put(USER_ID, userId);
+                    if (!registry.register(userId, session)) {
+                        session.close(CloseReason.TRY_AGAIN_LATER);
+                    }
+                })
+                .switchIfEmpty(Mono.fromRunnable(() -> session.close(CloseReason.POLICY_VIOLATION)))
+                .onErrorResume(e -> {
+                    LOG.warn("Rejected notification WebSocket: {}", e.getMessage());
+                    session.close(CloseReason.POLICY_VIOLATION);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    @OnMessage
+    public void onMessage(String message, WebSocketSession session) {
+        // Delivery is server to client only; client frames are ignored
+    }
+
+    @OnClose
+    public void onClose(WebSocketSession session) {
+        session.get(USER_ID, UUID.class).ifPresent(userId -> registry.unregister(userId, session));
+    }
+
+    private UUID userId(Authentication authentication) {
+        Object userId = authentication.getAttributes().get(USER_ID);
+        if (userId == null) {
+            throw new IllegalArgumentException("token has no userId claim");
+        }
+        return UUID.fromString(userId.toString());
+    }
+
+    private Mono<UUID> authenticate(HttpRequest<?> request) {
+        String ticket = request.getParameters().get("ticket");
+        if (ticket != null && !ticket.isBlank()) {
+            return Mono.justOrEmpty(tickets.redeem(ticket));
+        }
+        String token = request.getHeaders().getAuthorization()
+                .filter(header -> header.regionMatches(true, 0, "Bearer ", 0, 7))
+                .map(header -> header.substring(7).trim())
+                .orElse(null);
+        if (token == null) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(tokenValidators)
+                .concatMap(validator -> validator.validateToken(token, request))
+                .next()
+                .map(this::userId);
+    }
+}
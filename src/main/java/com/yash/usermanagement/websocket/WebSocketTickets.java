@@ -0,0 +1,105 @@
+package com.yash.usermanagement.websocket;
+
+import com.yash.usermanagement.config.NotificationWebSocketConfig;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived, single-use tickets for the notification WebSocket handshake. Browsers cannot set headers on a
+ * WebSocket, so the credential has to travel in the URL, where access logs and proxies record it. A ticket
+ * only opens one socket for its own user within {@code ticket-ttl} and cannot call the REST API.
+ * <p>
+ * Tickets are HMAC-signed, so any instance can redeem them; each instance remembers the nonces it redeemed
+ * until they expire.
+ */
+@Singleton
+public class WebSocketTickets {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, Long> redeemed = new ConcurrentHashMap<>();
+
+    @Inject
+    public WebSocketTickets(NotificationWebSocketConfig config,
+            @Value("${micronaut.security.token.jwt.signatures.secret.generator.secret}") String secret) {
+        this(secret.getBytes(StandardCharsets.UTF_8), config.getTicketTtl(), System::currentTimeMillis);
+    }
+
+    WebSocketTickets(byte[] secret, Duration ttl, LongSupplier clock) {
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    public String issue(UUID userId) {
+        byte[] nonce = new byte[16];
+        random.nextBytes(nonce);
+        String payload = userId + ":" + (clock.getAsLong() + ttlMillis) + ":" + ENCODER.encodeToString(nonce);
+        String encoded = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encoded + "." + ENCODER.encodeToString(sign(encoded));
+    }
+
+    /**
+     * @return the ticket's user, or empty if the ticket is malformed, forged, expired or already used
+     */
+    public Optional<UUID> redeem(String ticket) {
+        int dot = ticket.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        String encoded = ticket.substring(0, dot);
+        try {
+            if (!MessageDigest.isEqual(sign(encoded), DECODER.decode(ticket.substring(dot + 1)))) {
+                return Optional.empty();
+            }
+            String[] parts = new String(DECODER.decode(encoded), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3) {
+                return Optional.empty();
+            }
+            long expiry = Long.parseLong(parts[1]);
+            long now = clock.getAsLong();
+            redeemed.values().removeIf(expiresAt -> expiresAt <= now);
+            if (expiry <= now || redeemed.putIfAbsent(parts[2], expiry) != null) {
+                return Optional.empty();
+            }
+            return Optional.of(UUID.fromString(parts[0]));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public Duration ttl() {
+        return Duration.ofMillis(ttlMillis);
+    }
+
+    private byte[] sign(String encoded) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(("ws-ticket:" + encoded).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+-- Tables as previously produced by schema-generate from the @MappedEntity classes.
+-- No foreign keys: UserServiceImpl.deleteUser removes the address before the user, and devices and
+-- password change requests are not removed with their user.
+
+CREATE TABLE IF NOT EXISTS addresses (
+    id              UUID PRIMARY KEY,
+    st_address      VARCHAR(255) NOT NULL,
+    city            VARCHAR(255) NOT NULL,
+    state           VARCHAR(255),
+    postal_code     VARCHAR(255) NOT NULL,
+    country         VARCHAR(255) NOT NULL,
+    address_type    VARCHAR(255),
+    address_default BOOLEAN      NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id            UUID PRIMARY KEY,
+    first_name    VARCHAR(255) NOT NULL,
+    last_name     VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    gender        VARCHAR(255) NOT NULL,
+    date_of_birth DATE         NOT NULL,
+    phone_number  VARCHAR(255) NOT NULL,
+    role          VARCHAR(255) NOT NULL,
+    address_id    UUID
+);
+
+CREATE TABLE IF NOT EXISTS user_devices (
+    id         UUID PRIMARY KEY,
+    user_id    UUID         NOT NULL,
+    fcm_token  VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS password_change_requests (
+    id           UUID PRIMARY KEY,
+    user_id      UUID         NOT NULL,
+    new_password VARCHAR(255) NOT NULL,
+    status       VARCHAR(255) NOT NULL,
+    admin_id     UUID,
+    created_at   TIMESTAMP,
+    updated_at   TIMESTAMP
+);
@@ -0,0 +1,32 @@
+-- Indexes for the repository finders, and the digest table. Databases baselined at version 1 get them here as well.
+
+-- UserRepository.findByEmail / existsByEmail; also enforces what createUser checks
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email ON users (email);
+
+CREATE INDEX IF NOT EXISTS idx_users_role ON users (role);
+
+-- UserDeviceRepository.findByUserId
+CREATE INDEX IF NOT EXISTS idx_user_devices_user_id ON user_devices (user_id);
+
+-- PasswordChangeRequestRepository.findByUserIdAndStatus and findByUserId
+CREATE INDEX IF NOT EXISTS idx_password_change_requests_user_status ON password_change_requests (user_id, status);
+
+-- PasswordChangeRequestRepository.findByStatus (pending list)
+CREATE INDEX IF NOT EXISTS idx_password_change_requests_status ON password_change_requests (status);
+
+-- Digest buffer (DigestItem). Newer than the schema-generate setup, so databases baselined at version 1
+-- do not have it yet.
+CREATE TABLE IF NOT EXISTS notification_digest_items (
+    id         UUID PRIMARY KEY,
+    user_id    UUID         NOT NULL,
+    email      VARCHAR(255),
+    first_name VARCHAR(255),
+    title      VARCHAR(255),
+    message    TEXT,
+    priority   VARCHAR(255),
+    created_at TIMESTAMP    NOT NULL
+);
+
+-- DigestItemRepository: due users by age, then each user's items in order
+CREATE INDEX IF NOT EXISTS idx_digest_items_user_created ON notification_digest_items (user_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_digest_items_created ON notification_digest_items (created_at);
@@ -0,0 +1,70 @@
+package com.yash.usermanagement.delivery;
+
+import com.yash.usermanagement.config.NotificationCoalescingConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+class NotificationCoalescerTest {
+
+    private final AtomicLong clock = new AtomicLong(Duration.ofDays(1).toMillis());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationCoalescer coalescer = new NotificationCoalescer(config(), meterRegistry, clock::get);
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void dropsRepeatsInsideTheWindow() {
+        Optional<String> first = coalescer.claim("password-reset-request", userId);
+        clock.addAndGet(5_000);
+        Optional<String> repeat = coalescer.claim("password-reset-request", userId);
+
+        Assertions.assertTrue(first.isPresent());
+        Assertions.assertTrue(repeat.isEmpty());
+        Assertions.assertEquals(1.0, meterRegistry.counter("notifications.coalesced",
+                "type", "password-reset-request").count());
+    }
+
+    @Test
+    void keysByTypeAndUser() {
+        Assertions.assertTrue(coalescer.claim("password-reset-request", userId).isPresent());
+        Assertions.assertTrue(coalescer.claim("password-change", userId).isPresent());
+        Assertions.assertTrue(coalescer.claim("password-reset-request", UUID.randomUUID()).isPresent());
+    }
+
+    @Test
+    void releasedClaimCanBeRetried() {
+        String first = coalescer.claim("password-change", userId).orElseThrow();
+        coalescer.release("password-change", userId);
+
+        Assertions.assertEquals(Optional.of(first), coalescer.claim("password-change", userId));
+        Assertions.assertEquals(0.0, meterRegistry.counter("notifications.coalesced",
+                "type", "password-change").count());
+    }
+
+    @Test
+    void nextWindowDeliversAgain() {
+        String first = coalescer.claim("password-change", userId).orElseThrow();
+        clock.addAndGet(Duration.ofSeconds(60).toMillis());
+
+        Assertions.assertNotEquals(first, coalescer.claim("password-change", userId).orElseThrow());
+    }
+
+    @Test
+    void idIsDerivedFromTheKeySoOtherNodesCollide() {
+        NotificationCoalescer otherNode = new NotificationCoalescer(config(), meterRegistry, clock::get);
+
+        Assertions.assertEquals(coalescer.claim("account-deletion", userId),
+                otherNode.claim("account-deletion", userId));
+    }
+
+    private static NotificationCoalescingConfig config() {
+        NotificationCoalescingConfig config = new NotificationCoalescingConfig();
+        config.setWindow(Duration.ofSeconds(60));
+        return config;
+    }
+}
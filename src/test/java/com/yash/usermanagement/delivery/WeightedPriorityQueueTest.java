@@ -0,0 +1,53 @@
+package com.yash.usermanagement.delivery;
+
+import com.yash.usermanagement.model.NotificationPriority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class WeightedPriorityQueueTest {
+
+    private final WeightedPriorityQueue<String> queue = new WeightedPriorityQueue<>(100, priority -> switch (priority) {
+        case URGENT -> 8;
+        case HIGH -> 4;
+        case MEDIUM -> 2;
+        case LOW -> 1;
+    });
+
+    @Test
+    void urgentWorkIsServedAheadOfALowBacklog() {
+        for (int i = 0; i < 50; i++) {
+            queue.offer(NotificationPriority.LOW, "low-" + i);
+        }
+        queue.offer(NotificationPriority.URGENT, "reset");
+
+        Assertions.assertEquals("reset", queue.poll());
+        Assertions.assertEquals("low-0", queue.poll());
+    }
+
+    @Test
+    void sharesSlotsByWeightWhileBothQueuesAreBusy() {
+        for (int i = 0; i < 45; i++) {
+            queue.offer(NotificationPriority.URGENT, "urgent");
+            queue.offer(NotificationPriority.LOW, "low");
+        }
+
+        List<String> served = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            served.add(queue.poll());
+        }
+
+        Assertions.assertEquals(5, served.stream().filter("low"::equals).count(), "low gets one slot in nine");
+    }
+
+    @Test
+    void rejectsWhenAPriorityQueueIsFull() {
+        WeightedPriorityQueue<String> small = new WeightedPriorityQueue<>(1, priority -> 1);
+
+        Assertions.assertTrue(small.offer(NotificationPriority.LOW, "a"));
+        Assertions.assertFalse(small.offer(NotificationPriority.LOW, "b"));
+        Assertions.assertTrue(small.offer(NotificationPriority.HIGH, "c"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.yash.usermanagement.diagnostics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class PoolGuidanceTest {
+
+    @Test
+    void needsAMinimumNumberOfSamples() {
+        PoolGuidance guidance = PoolGuidance.evaluate(samples(3, 10, 5, 40.0, null), 10, 5, 20);
+
+        Assertions.assertEquals(PoolGuidance.Verdict.INSUFFICIENT_DATA, guidance.verdict());
+    }
+
+    @Test
+    void waitingForConnectionsIsSaturation() {
+        List<PoolSample> samples = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            boolean busy = i % 2 == 0;
+            samples.add(new PoolSample(i, 10, 0, busy ? 6 : 0, busy ? 80.0 : 1.0, busy ? 30 : 0, 200));
+        }
+
+        PoolGuidance guidance = PoolGuidance.evaluate(samples, 10, 5, 20);
+
+        Assertions.assertEquals(PoolGuidance.Verdict.POOL_SATURATED, guidance.verdict());
+        Assertions.assertEquals(16, guidance.suggestedMaximumPoolSize());
+        Assertions.assertEquals(1.0, guidance.acquireQueueCorrelation(), 1e-9);
+        Assertions.assertTrue(guidance.detail().contains("queueing behind the pool"));
+    }
+
+    @Test
+    void suggestionIsCappedAtTwiceThePool() {
+        PoolGuidance guidance = PoolGuidance.evaluate(samples(20, 10, 50, 500.0, null), 10, 5, 20);
+
+        Assertions.assertEquals(PoolGuidance.Verdict.POOL_SATURATED, guidance.verdict());
+        Assertions.assertEquals(20, guidance.suggestedMaximumPoolSize());
+        Assertions.assertNull(guidance.acquireQueueCorrelation(), "virtual threads have no queue");
+    }
+
+    @Test
+    void executorBacklogWithoutPoolWaitsPointsAtTheExecutor() {
+        PoolGuidance guidance = PoolGuidance.evaluate(samples(20, 6, 0, 0.5, 15), 10, 5, 20);
+
+        Assertions.assertEquals(PoolGuidance.Verdict.EXECUTOR_SATURATED, guidance.verdict());
+        Assertions.assertNull(guidance.suggestedMaximumPoolSize());
+    }
+
+    @Test
+    void mostlyIdlePoolIsOversized() {
+        PoolGuidance guidance = PoolGuidance.evaluate(samples(20, 3, 0, 0.5, 0), 20, 2, 20);
+
+        Assertions.assertEquals(PoolGuidance.Verdict.OVERSIZED, guidance.verdict());
+        Assertions.assertEquals(5, guidance.suggestedMaximumPoolSize());
+    }
+
+    @Test
+    void busyPoolWithoutWaitsIsHealthy() {
+        PoolGuidance guidance = PoolGuidance.evaluate(samples(20, 8, 0, 0.5, 0), 10, 5, 20);
+
+        Assertions.assertEquals(PoolGuidance.Verdict.HEALTHY, guidance.verdict());
+    }
+
+    private static List<PoolSample> samples(int count, int active, int pending, double acquireMillis,
+                                            Integer queued) {
+        List<PoolSample> samples = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            samples.add(new PoolSample(i, active, 10 - Math.min(active, 10), pending, acquireMillis, queued, null));
+        }
+        return samples;
+    }
+}
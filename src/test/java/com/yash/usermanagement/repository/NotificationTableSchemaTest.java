@@ -0,0 +1,66 @@
+package com.yash.usermanagement.repository;
+
+import com.yash.usermanagement.model.Notification;
+import com.yash.usermanagement.model.NotificationPriority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+class NotificationTableSchemaTest {
+
+    @Test
+    void keysMatchTheProvisionedTable() {
+        TableMetadata metadata = NotificationTableSchema.SCHEMA.tableMetadata();
+
+        Assertions.assertEquals("userId", metadata.primaryPartitionKey());
+        Assertions.assertEquals("id", metadata.primarySortKey().orElseThrow());
+        Assertions.assertEquals("id", metadata.indexPartitionKey(Notification.ID_INDEX));
+    }
+
+    @Test
+    void writesTheAttributeNamesFromBeanUsed() {
+        Map<String, AttributeValue> item = NotificationTableSchema.SCHEMA.itemToMap(notification(), true);
+
+        Assertions.assertEquals(Set.of("userId", "id", "title", "message", "timestamp", "priority", "createdAt",
+                "read", "expiresAt"), item.keySet());
+        Assertions.assertEquals("HIGH", item.get("priority").s());
+        Assertions.assertTrue(item.get("read").bool());
+        Assertions.assertEquals("1900000000", item.get("expiresAt").n());
+    }
+
+    @Test
+    void roundTripsEveryField() {
+        Notification original = notification();
+
+        Notification copy = NotificationTableSchema.SCHEMA.mapToItem(
+                NotificationTableSchema.SCHEMA.itemToMap(original, true));
+
+        Assertions.assertEquals(original.getId(), copy.getId());
+        Assertions.assertEquals(original.getUserId(), copy.getUserId());
+        Assertions.assertEquals(original.getTitle(), copy.getTitle());
+        Assertions.assertEquals(original.getMessage(), copy.getMessage());
+        Assertions.assertEquals(original.getTimestamp(), copy.getTimestamp());
+        Assertions.assertEquals(original.getPriority(), copy.getPriority());
+        Assertions.assertEquals(original.getCreatedAt(), copy.getCreatedAt());
+        Assertions.assertEquals(original.isRead(), copy.isRead());
+        Assertions.assertEquals(original.getExpiresAt(), copy.getExpiresAt());
+    }
+
+    private static Notification notification() {
+        Notification notification = new Notification();
+        notification.setUserId(UUID.randomUUID());
+        notification.setTitle("Title");
+        notification.setMessage("Message");
+        notification.setPriority(NotificationPriority.HIGH);
+        notification.setCreatedAt(LocalDateTime.of(2024, 5, 1, 12, 30));
+        notification.setRead(true);
+        notification.setExpiresAt(1_900_000_000L);
+        return notification;
+    }
+}
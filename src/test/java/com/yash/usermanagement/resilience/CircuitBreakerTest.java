@@ -0,0 +1,93 @@
+package com.yash.usermanagement.resilience;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> transitions = new ArrayList<>();
+    private final CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofSeconds(10), 1, clock::get,
+            (from, to) -> transitions.add(from + "->" + to));
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        long first = breaker.tryAcquire();
+        Assertions.assertNotEquals(CircuitBreaker.REJECTED, first);
+        breaker.onFailure(first);
+        long second = breaker.tryAcquire();
+        Assertions.assertNotEquals(CircuitBreaker.REJECTED, second);
+        breaker.onFailure(second);
+
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        Assertions.assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+        Assertions.assertEquals(List.of("CLOSED->OPEN"), transitions);
+    }
+
+    @Test
+    void halfOpenProbeClosesCircuitOnSuccess() {
+        tripBreaker();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        long probe = breaker.tryAcquire();
+        Assertions.assertNotEquals(CircuitBreaker.REJECTED, probe);
+        Assertions.assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire(), "only one probe may be in flight");
+        breaker.onSuccess(probe);
+
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        Assertions.assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions);
+    }
+
+    @Test
+    void failedProbeReopensCircuit() {
+        tripBreaker();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        long probe = breaker.tryAcquire();
+        Assertions.assertNotEquals(CircuitBreaker.REJECTED, probe);
+        breaker.onFailure(probe);
+
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        Assertions.assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+    }
+
+    @Test
+    void ignoresOutcomesOfCallsAdmittedBeforeTransition() {
+        long slow = breaker.tryAcquire();
+        tripBreaker();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        long probe = breaker.tryAcquire();
+
+        breaker.onSuccess(slow);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState(),
+                "a call admitted while closed must not close the circuit");
+
+        breaker.onFailure(probe);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void staleFailuresDoNotReopenClosedCircuit() {
+        long first = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+        tripBreaker();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        breaker.onSuccess(breaker.tryAcquire());
+
+        breaker.onFailure(first);
+        breaker.onFailure(second);
+
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private void tripBreaker() {
+        for (int i = 0; i < 2; i++) {
+            breaker.onFailure(breaker.tryAcquire());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.yash.usermanagement.routing;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ReadYourWritesPinsTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ReadYourWritesPins pins = new ReadYourWritesPins(Duration.ofSeconds(5), clock::get);
+
+    @Test
+    void pinsPrincipalUntilExpiry() {
+        pins.pin("alice@example.com");
+
+        Assertions.assertTrue(pins.isPinned("alice@example.com"));
+        Assertions.assertFalse(pins.isPinned("bob@example.com"));
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        Assertions.assertFalse(pins.isPinned("alice@example.com"));
+        Assertions.assertEquals(0, pins.size(), "expired pin is dropped on lookup");
+    }
+
+    @Test
+    void laterWriteExtendsPin() {
+        pins.pin("alice@example.com");
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+        pins.pin("alice@example.com");
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+
+        Assertions.assertTrue(pins.isPinned("alice@example.com"));
+    }
+
+    @Test
+    void evictsExpiredPins() {
+        pins.pin("alice@example.com");
+        clock.addAndGet(Duration.ofSeconds(3).toNanos());
+        pins.pin("bob@example.com");
+        clock.addAndGet(Duration.ofSeconds(3).toNanos());
+
+        pins.evictExpired();
+
+        Assertions.assertEquals(1, pins.size());
+        Assertions.assertTrue(pins.isPinned("bob@example.com"));
+    }
+
+    @Test
+    void zeroDurationDisablesPinning() {
+        ReadYourWritesPins disabled = new ReadYourWritesPins(Duration.ZERO, clock::get);
+        disabled.pin("alice@example.com");
+
+        Assertions.assertFalse(disabled.isPinned("alice@example.com"));
+        Assertions.assertEquals(0, disabled.size());
+    }
+}
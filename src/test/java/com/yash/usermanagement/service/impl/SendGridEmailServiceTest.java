@@ -0,0 +1,95 @@
+package com.yash.usermanagement.service.impl;
+
+import com.sun.net.httpserver.HttpServer;
+import com.yash.usermanagement.config.SendGridConfig;
+import com.yash.usermanagement.resilience.DependencyGuard;
+import com.yash.usermanagement.resilience.ResilienceConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.http.client.HttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs {@link SendGridEmailService} against a local stub of the SendGrid v3 API.
+ */
+class SendGridEmailServiceTest {
+
+    private final ConcurrentLinkedQueue<String> bodies = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<String> authorizations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger failuresBeforeSuccess = new AtomicInteger();
+    private volatile int rejectStatus;
+
+    private HttpServer stub;
+    private HttpClient httpClient;
+    private SendGridEmailService service;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/v3/mail/send", exchange -> {
+            bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+            int status = rejectStatus != 0 ? rejectStatus
+                    : failuresBeforeSuccess.getAndDecrement() > 0 ? 503 : 202;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        stub.start();
+
+        SendGridConfig sendGridConfig = new SendGridConfig();
+        sendGridConfig.setApiKey("test-key");
+        ResilienceConfig resilienceConfig = new ResilienceConfig("sendgrid");
+        resilienceConfig.setInitialBackoff(Duration.ofMillis(1));
+        resilienceConfig.setMaxBackoff(Duration.ofMillis(5));
+        httpClient = HttpClient.create(new URL("http://127.0.0.1:" + stub.getAddress().getPort()));
+        service = new SendGridEmailService(sendGridConfig, httpClient,
+                new DependencyGuard(resilienceConfig, new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void stopStub() {
+        httpClient.close();
+        stub.stop(0);
+    }
+
+    @Test
+    void pipelinesSendsThroughSharedClient() {
+        List<CompletableFuture<Boolean>> sends = List.of(
+                service.sendEmailAsync("a@example.com", "Hello", "plain", "<p>html</p>"),
+                service.sendEmailAsync("b@example.com", "Hello", "plain", "<p>html</p>"),
+                service.sendEmailAsync("c@example.com", "Hello", "plain", "<p>html</p>"));
+
+        sends.forEach(send -> Assertions.assertTrue(send.join()));
+        Assertions.assertEquals(3, bodies.size());
+        Assertions.assertTrue(authorizations.stream().allMatch("Bearer test-key"::equals));
+        Assertions.assertTrue(bodies.peek().contains("\"type\":\"text/plain\""));
+    }
+
+    @Test
+    void retriesWhenSendGridIsUnavailable() {
+        failuresBeforeSuccess.set(2);
+
+        Assertions.assertTrue(service.sendEmail("a@example.com", "Hello", "plain", "<p>html</p>"));
+        Assertions.assertEquals(3, bodies.size());
+    }
+
+    @Test
+    void doesNotRetryRejectedEmail() {
+        rejectStatus = 400;
+
+        Assertions.assertFalse(service.sendEmail("a@example.com", "Hello", "plain", "<p>html</p>"));
+        Assertions.assertEquals(1, bodies.size());
+    }
+}
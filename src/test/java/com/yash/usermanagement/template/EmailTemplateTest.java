@@ -0,0 +1,49 @@
+package com.yash.usermanagement.template;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class EmailTemplateTest {
+
+    @Test
+    void escapesValuesInHtmlTemplates() {
+        EmailTemplate template = EmailTemplate.compile("test.html", "<p>Hi {{ firstName }}</p>", true);
+
+        Assertions.assertEquals("<p>Hi &lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt;</p>",
+                template.render(Map.of("firstName", "<script>alert('x')</script>")));
+    }
+
+    @Test
+    void leavesPlainTextUnescaped() {
+        EmailTemplate template = EmailTemplate.compile("test.txt", "Hi {{firstName}} & welcome", false);
+
+        Assertions.assertEquals("Hi Tom & Jerry & welcome", template.render(Map.of("firstName", "Tom & Jerry")));
+    }
+
+    @Test
+    void bindSubstitutesSharedValuesOnce() {
+        EmailTemplate template = EmailTemplate.compile("test.html", "<h2>{{title}}</h2><p>Hi {{firstName}}</p>", true);
+        EmailTemplate bound = template.bind(Map.of("title", "News & updates"));
+
+        Assertions.assertEquals("<h2>News &amp; updates</h2><p>Hi Ann</p>", bound.render(Map.of("firstName", "Ann")));
+        Assertions.assertEquals("<h2>News &amp; updates</h2><p>Hi Bob</p>", bound.render(Map.of("firstName", "Bob")));
+    }
+
+    @Test
+    void rejectsMissingValues() {
+        EmailTemplate template = EmailTemplate.compile("test.txt", "Hi {{firstName}}", false);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> template.render(Map.of()));
+    }
+
+    @Test
+    void compilesAllBundledTemplates() {
+        EmailTemplateEngine engine = new EmailTemplateEngine();
+
+        EmailContent content = engine.render(EmailTemplateName.WELCOME, Map.of("password", "<Secret1@>"));
+        Assertions.assertTrue(content.plainText().contains("Your temporary password is: <Secret1@>"));
+        Assertions.assertTrue(content.html().contains("<strong>&lt;Secret1@&gt;</strong>"));
+    }
+}
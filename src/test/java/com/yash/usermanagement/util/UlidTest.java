@@ -0,0 +1,25 @@
+package com.yash.usermanagement.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class UlidTest {
+
+    @Test
+    void encodesTimestampInFirstTenCharacters() {
+        // Reference value from the ULID spec: 1469918176385 ms -> 01ARYZ6S41
+        String ulid = Ulid.at(1469918176385L);
+
+        Assertions.assertEquals(26, ulid.length());
+        Assertions.assertEquals("01ARYZ6S41", ulid.substring(0, 10));
+        Assertions.assertTrue(ulid.matches("[0-9A-HJKMNP-TV-Z]{26}"));
+    }
+
+    @Test
+    void sortsByCreationTime() {
+        String earlier = Ulid.at(1_700_000_000_000L);
+        String later = Ulid.at(1_700_000_000_001L);
+
+        Assertions.assertTrue(earlier.compareTo(later) < 0);
+    }
+}
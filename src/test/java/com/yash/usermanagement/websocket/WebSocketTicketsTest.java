@@ -0,0 +1,60 @@
+package com.yash.usermanagement.websocket;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+class WebSocketTicketsTest {
+
+    private static final byte[] SECRET = "test-secret-test-secret-test-secret".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final WebSocketTickets tickets = new WebSocketTickets(SECRET, Duration.ofSeconds(30), clock::get);
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void redeemsTicketOnce() {
+        String ticket = tickets.issue(userId);
+
+        Assertions.assertEquals(Optional.of(userId), tickets.redeem(ticket));
+        Assertions.assertEquals(Optional.empty(), tickets.redeem(ticket), "a ticket opens one socket only");
+    }
+
+    @Test
+    void rejectsExpiredTicket() {
+        String ticket = tickets.issue(userId);
+        clock.addAndGet(Duration.ofSeconds(30).toMillis());
+
+        Assertions.assertEquals(Optional.empty(), tickets.redeem(ticket));
+    }
+
+    @Test
+    void rejectsTicketSignedWithAnotherSecret() {
+        WebSocketTickets other = new WebSocketTickets("another-secret".getBytes(StandardCharsets.UTF_8),
+                Duration.ofSeconds(30), clock::get);
+
+        Assertions.assertEquals(Optional.empty(), tickets.redeem(other.issue(userId)));
+    }
+
+    @Test
+    void rejectsTamperedAndMalformedTickets() {
+        String ticket = tickets.issue(userId);
+        String tampered = tickets.issue(UUID.randomUUID()).split("\\.")[0] + "." + ticket.split("\\.")[1];
+
+        Assertions.assertEquals(Optional.empty(), tickets.redeem(tampered));
+        Assertions.assertEquals(Optional.empty(), tickets.redeem("not-a-ticket"));
+        Assertions.assertEquals(Optional.empty(), tickets.redeem("a.b"));
+    }
+
+    @Test
+    void anotherInstanceWithTheSameSecretRedeems() {
+        WebSocketTickets otherInstance = new WebSocketTickets(SECRET, Duration.ofSeconds(30), clock::get);
+
+        Assertions.assertEquals(Optional.of(userId), otherInstance.redeem(tickets.issue(userId)));
+    }
+}